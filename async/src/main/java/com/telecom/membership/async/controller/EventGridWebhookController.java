@@ -1,110 +1,328 @@
 // File: membership/async/src/main/java/com/telecom/membership/async/controller/EventGridWebhookController.java
 package com.telecom.membership.async.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.membership.async.dto.EventGridEvent;
+import com.telecom.membership.async.dto.EventResult;
 import com.telecom.membership.async.dto.ValidationResponse;
 import com.telecom.membership.async.service.PointHistoryManager;
 import com.telecom.membership.common.dto.PointRequest;
+import com.telecom.membership.common.dto.PointResponse;
 import com.telecom.membership.common.response.ApiResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/events")
-@RequiredArgsConstructor
 @Tag(name = "Event Grid Webhook API", description = "Event Grid에서 전송된 이벤트를 처리하는 API")
 public class EventGridWebhookController {
 
     private final ObjectMapper objectMapper;
     private final PointHistoryManager historyManager;
+    private final int maxConcurrency;
+    private final int replayConcurrency;
+    private final Duration deadline;
+    private final DistributionSummary batchSize;
+    private final MeterRegistry meterRegistry;
 
+    public EventGridWebhookController(ObjectMapper objectMapper,
+                                      PointHistoryManager historyManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${point.webhook.max-concurrency:8}") int maxConcurrency,
+                                      @Value("${point.webhook.replay-concurrency:8}") int replayConcurrency,
+                                      @Value("${point.webhook.deadline:20s}") Duration deadline) {
+        this.objectMapper = objectMapper;
+        this.historyManager = historyManager;
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrency = maxConcurrency;
+        this.replayConcurrency = replayConcurrency;
+        this.deadline = deadline;
+        this.batchSize = DistributionSummary.builder("async.webhook.batch.size")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Event Grid 배치 전달 처리.
+     * <p>
+     * 요청 본문(이벤트 배열)은 전체를 문자열이나 트리로 올리지 않고 DataBuffer 를 받는 대로
+     * Jackson 스트리밍 파서로 이벤트 단위로 읽습니다. 이벤트는 최대 max-concurrency 개씩 동시에 처리하고
+     * 결과는 받은 순서대로 이벤트별로 응답합니다.
+     * 배치는 항상 200 으로 받습니다. 일시적으로 실패한 적립은 point_history 에 재시도 대상(FAILED)으로 저장해
+     * RetryScheduler 가 다시 처리하고, point-service 가 4xx 로 거절한 요청은 SKIPPED 로 남깁니다.
+     * 배치 전체를 다시 전달받으면 이미 적립된 이벤트까지 다시 처리하게 되기 때문입니다.
+     * Event Grid 전달 제한 시간 안에 응답하도록 deadline 이 지나면 남은 적립은 point-service 를 호출하지 않고
+     * 재시도 대상으로 저장합니다.
+     */
     @PostMapping("/point")
     @Operation(summary = "이벤트 수신", description = "Event Grid에서 전송된 포인트 관련 이벤트를 처리합니다.")
     public Mono<ResponseEntity<?>> handleEvent(
             @RequestHeader(value = "aeg-event-type", required = false) String aegEventType,
-            @RequestBody String requestBody) {
+            @RequestBody Flux<EventGridEvent> events) {
 
-        return Mono.defer(() -> {
-            try {
-                log.info("Received event type: {}", aegEventType);
-                log.debug("Request body: {}", requestBody);
-
-                // Subscription Validation 처리
-                if ("SubscriptionValidation".equals(aegEventType)) {
-                    JsonNode[] events = objectMapper.readValue(requestBody, JsonNode[].class);
-                    String validationCode = events[0].get("data").get("validationCode").asText();
-                    log.info("Handling validation request with code: {}", validationCode);
-                    return Mono.just(ResponseEntity.ok().body(new ValidationResponse(validationCode)));
-                }
+        log.info("Received event type: {}", aegEventType);
 
-                // 실제 이벤트 처리
-                JsonNode[] events = objectMapper.readValue(requestBody, JsonNode[].class);
-                JsonNode eventNode = events[0];
-                String eventType = eventNode.get("eventType").asText();
-                JsonNode data = eventNode.get("data");
-
-                log.info("Processing {} event. Data: {}", eventType, data);
-
-                // 이벤트 타입별 로깅
-                switch (eventType) {
-                    case "CircuitBreakerOpened":
-                        log.warn("Circuit Breaker opened for service: {}, path: {}",
-                                data.get("service").asText(),
-                                data.get("path").asText());
-                        break;
-                    case "RetryExhausted":
-                        log.warn("Retry exhausted for request. Path: {}", data.get("path").asText());
-                        break;
-                    case "ProcessingFailed":
-                        log.warn("Processing failed. Error: {}", data.get("error").asText());
-                        break;
-                    default:
-                        log.warn("Unknown event type received: {}", eventType);
-                }
+        // Subscription Validation 처리
+        if ("SubscriptionValidation".equals(aegEventType)) {
+            return events.next()
+                    .<ResponseEntity<?>>map(event -> {
+                        String validationCode = event.getData().get("validationCode").asText();
+                        log.info("Handling validation request with code: {}", validationCode);
+                        return ResponseEntity.ok().body(new ValidationResponse(validationCode));
+                    })
+                    .onErrorResume(e -> {
+                        log.error("Error processing validation event", e);
+                        return Mono.just(ResponseEntity.badRequest()
+                                .body(ApiResponse.error("검증 이벤트를 읽을 수 없습니다: " + e.getMessage())));
+                    });
+        }
 
-                // point 서비스 호출을 위한 요청 생성
-                PointRequest pointRequest;
-                if (data.has("originalRequest")) {
-                    // originalRequest가 있는 경우 (retry, processing failed)
-                    pointRequest = objectMapper.treeToValue(data.get("originalRequest"), PointRequest.class);
-                } else {
-                    // originalRequest가 없는 경우 (circuit breaker)
-                    Map<String, String> pathParams = extractPathParams(data.get("path").asText());
-                    pointRequest = PointRequest.builder()
-                            .memberId(pathParams.getOrDefault("memberId", "unknown"))
-                            .partnerId(pathParams.getOrDefault("partnerId", "unknown"))
-                            .partnerType(pathParams.getOrDefault("partnerType", "UNKNOWN"))
-                            .amount(new BigDecimal(pathParams.getOrDefault("amount", "0")))
-                            .build();
-                }
+        // 실제 이벤트 처리
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        return events
+                .flatMapSequential(event -> process(event, deadlineNanos), maxConcurrency)
+                .collectList()
+                .<ResponseEntity<?>>map(results -> {
+                    batchSize.record(results.size());
+                    long failed = results.stream().filter(EventResult::isFailed).count();
+                    if (failed > 0) {
+                        log.error("{} of {} events failed and could not be saved for retry", failed, results.size());
+                    }
+                    return ResponseEntity.ok(ApiResponse.success(results));
+                })
+                .onErrorResume(e -> {
+                    // 본문을 읽는 중 오류 (잘못된 JSON 등)
+                    log.error("Error reading event batch", e);
+                    return Mono.just(ResponseEntity.badRequest()
+                            .body(ApiResponse.error("이벤트를 읽을 수 없습니다: " + e.getMessage())));
+                });
+    }
+
+    /**
+     * 이벤트 한 건 처리. 오류는 결과로 바꿔 같은 배치의 다른 이벤트 처리에 영향을 주지 않습니다
+     * (적립 실패는 {@link #accumulate} 가 먼저 재시도 대상으로 저장하므로 여기로 오는 것은 그 밖의 오류).
+     */
+    private Mono<EventResult> process(EventGridEvent event, long deadlineNanos) {
+        return Mono.defer(() -> dispatch(event, deadlineNanos))
+                .onErrorResume(error -> {
+                    log.error("Failed to process event id={}, type={}", event.getId(), event.getEventType(), error);
+                    return Mono.just(result(event, EventResult.FAILED, error.getMessage(), null));
+                })
+                .doOnNext(result -> meterRegistry.counter("async.webhook.events", "result", result.getStatus())
+                        .increment());
+    }
+
+    private Mono<EventResult> dispatch(EventGridEvent event, long deadlineNanos) {
+        String eventType = event.getEventType();
+        JsonNode data = event.getData();
+        if (eventType == null || data == null) {
+            log.warn("Skipping event without type or data: id={}", event.getId());
+            return Mono.just(result(event, EventResult.SKIPPED, "eventType 또는 data 가 없습니다.", null));
+        }
+
+        log.info("Processing {} event. Data: {}", eventType, data);
+
+        // 이벤트 타입별 로깅
+        switch (eventType) {
+            case "CircuitBreakerOpened":
+            case "CircuitBreakerStateChanged":
+                // 상태 전이 이벤트에는 재처리할 요청이 없음
+                log.warn("Circuit Breaker state changed for service: {}, {} -> {}",
+                        data.path("service").asText(),
+                        data.path("fromState").asText(),
+                        data.path("toState").asText());
+                return Mono.just(result(event, EventResult.SUCCESS, null, eventType));
+            case "CircuitBreakerFailureSummary":
+                return handleFailureSummary(data, deadlineNanos)
+                        .map(outcomes -> result(event, summarize(outcomes), null, outcomes));
+            case "CircuitBreakerReplayBatch":
+                log.warn("Replaying {} requests rejected by the circuit breaker", data.path("requests").size());
+                return replay(data.path("requests"), deadlineNanos)
+                        .map(outcomes -> result(event, summarize(outcomes), null, outcomes));
+            case "RetryExhausted":
+                log.warn("Retry exhausted for request. Path: {}", data.path("path").asText());
+                break;
+            case "ProcessingFailed":
+                log.warn("Processing failed. Error: {}", data.path("error").asText());
+                break;
+            default:
+                log.warn("Unknown event type received: {}", eventType);
+        }
+
+        // point 서비스 호출을 위한 요청 생성
+        PointRequest pointRequest;
+        String idempotencyKey = textOrNull(data.path("idempotencyKey"));
+        try {
+            if (data.has("originalRequest")) {
+                // originalRequest가 있는 경우 (retry, processing failed)
+                pointRequest = originalRequest(data);
+            } else {
+                // originalRequest가 없는 경우 (circuit breaker)
+                Map<String, String> pathParams = extractPathParams(data.path("path").asText());
+                pointRequest = PointRequest.builder()
+                        .memberId(pathParams.getOrDefault("memberId", "unknown"))
+                        .partnerId(pathParams.getOrDefault("partnerId", "unknown"))
+                        .partnerType(pathParams.getOrDefault("partnerType", "UNKNOWN"))
+                        .amount(new BigDecimal(pathParams.getOrDefault("amount", "0")))
+                        .build();
+            }
+        } catch (Exception e) {
+            // 다시 전달받아도 읽을 수 없으므로 재전달하지 않음
+            log.warn("Skipping unreadable {} event id={}: {}", eventType, event.getId(), e.getMessage());
+            return Mono.just(result(event, EventResult.SKIPPED, "요청을 읽을 수 없습니다: " + e.getMessage(), null));
+        }
+
+        // point 적립 처리
+        return accumulate(pointRequest, idempotencyKey, deadlineNanos)
+                .map(outcome -> result(event, outcome.status(), outcome.message(), outcome.response()));
+    }
+
+    /**
+     * 적립 한 건 처리. point-service 가 4xx 로 거절하면(408, 429 제외) 다시 보내도 결과가 같으므로 SKIPPED,
+     * 그 밖의 실패는 point_history 에 재시도 대상으로 저장하고 RETRY_SCHEDULED 를 돌려줍니다.
+     * 저장마저 실패한 경우만 FAILED 입니다. deadline 이 지났으면 호출하지 않고, 처리 중이면 끊고 재시도 대상으로 저장합니다.
+     */
+    private Mono<Outcome> accumulate(PointRequest request, String idempotencyKey, long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        Mono<PointResponse> call = remaining > 0
+                ? historyManager.processPointAccumulation(request, idempotencyKey).timeout(Duration.ofNanos(remaining))
+                : Mono.error(new TimeoutException("Webhook response deadline passed"));
+        return call
+                .map(response -> new Outcome(EventResult.SUCCESS, null, response))
+                .onErrorResume(error -> {
+                    if (isPermanent(error)) {
+                        log.warn("Point service rejected request for memberId={}: {}",
+                                request.getMemberId(), error.getMessage());
+                        return Mono.just(new Outcome(EventResult.SKIPPED, error.getMessage(), null));
+                    }
+                    return historyManager.saveForRetry(request, idempotencyKey, error)
+                            .map(saved -> new Outcome(EventResult.RETRY_SCHEDULED, error.getMessage(), null))
+                            .onErrorResume(saveError -> {
+                                log.error("Failed to save request for retry, memberId={}",
+                                        request.getMemberId(), saveError);
+                                return Mono.just(new Outcome(EventResult.FAILED, error.getMessage(), null));
+                            });
+                });
+    }
+
+    private static boolean isPermanent(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return response.getStatusCode().is4xxClientError() && status != 408 && status != 429;
+        }
+        return false;
+    }
+
+    /**
+     * 여러 요청을 재처리한 이벤트의 결과. 저장하지 못한 요청이 있으면 FAILED, 재시도로 넘긴 요청이 있으면 RETRY_SCHEDULED
+     */
+    private static String summarize(List<Outcome> outcomes) {
+        if (outcomes.stream().anyMatch(outcome -> EventResult.FAILED.equals(outcome.status()))) {
+            return EventResult.FAILED;
+        }
+        if (outcomes.stream().anyMatch(outcome -> EventResult.RETRY_SCHEDULED.equals(outcome.status()))) {
+            return EventResult.RETRY_SCHEDULED;
+        }
+        return EventResult.SUCCESS;
+    }
+
+    private EventResult result(EventGridEvent event, String status, String message, Object data) {
+        return EventResult.builder()
+                .id(event.getId())
+                .eventType(event.getEventType())
+                .status(status)
+                .message(message)
+                .data(data)
+                .build();
+    }
+
+    /**
+     * Circuit Breaker 실패 요약 이벤트 처리.
+     * 요약에 담긴 샘플 중 원본 요청이 있는 건만 포인트 적립을 재처리합니다
+     * (재처리 요청은 CircuitBreakerReplayBatch 로 따로 전달되며, 이전 형식의 요약을 위해 남겨둠).
+     */
+    private Mono<List<Outcome>> handleFailureSummary(JsonNode data, long deadlineNanos) {
+        log.warn("Circuit Breaker failure summary for service: {}, total: {}, window: {} ~ {}, dropped samples: {}",
+                data.path("service").asText(),
+                data.path("totalFailures").asLong(),
+                data.path("windowStart").asText(),
+                data.path("windowEnd").asText(),
+                data.path("droppedSamples").asLong());
+        data.path("counts").forEach(count -> log.warn("  {} {} [{}]: {}",
+                count.path("method").asText(),
+                count.path("path").asText(),
+                count.path("partnerType").asText(),
+                count.path("count").asLong()));
 
-                // point 적립 처리
-                return historyManager.processPointAccumulation(pointRequest)
-                        .map(response -> ResponseEntity.ok(ApiResponse.success(response)))
-                        .onErrorResume(error -> {
-                            log.error("Failed to process point accumulation for event type: {}", eventType, error);
-                            return Mono.just(ResponseEntity.internalServerError()
-                                    .body(ApiResponse.error("이벤트 처리 중 오류가 발생했습니다: " + error.getMessage())));
-                        });
+        return replay(data.path("samples"), deadlineNanos);
+    }
 
+    /**
+     * 원본 요청이 담긴 샘플들의 포인트 적립을 최대 replay-concurrency 건씩 동시에 재처리합니다.
+     * 요청별 실패와 deadline 처리는 {@link #accumulate} 와 같습니다.
+     */
+    private Mono<List<Outcome>> replay(JsonNode samples, long deadlineNanos) {
+        List<Replay> requests = new ArrayList<>();
+        for (JsonNode sample : samples) {
+            if (!sample.hasNonNull("originalRequest")) {
+                continue;
+            }
+            try {
+                requests.add(new Replay(
+                        originalRequest(sample),
+                        textOrNull(sample.path("idempotencyKey"))));
             } catch (Exception e) {
-                log.error("Error processing event", e);
-                return Mono.just(ResponseEntity.internalServerError()
-                        .body(ApiResponse.error("이벤트 처리 중 오류가 발생했습니다: " + e.getMessage())));
+                log.warn("Skipping unreadable failure sample: {}", e.getMessage());
+            }
+        }
+
+        return Flux.fromIterable(requests)
+                .flatMapSequential(replay -> accumulate(replay.request(), replay.idempotencyKey(), deadlineNanos),
+                        replayConcurrency)
+                .collectList();
+    }
+
+    /**
+     * 실패 정보에 담긴 원본 요청. 구매 시각이 없으면 gateway 가 실패를 기록한 시각으로 채워
+     * 재처리가 늦어져도 그 시각 기준의 적립률 규칙이 적용되게 합니다.
+     */
+    private PointRequest originalRequest(JsonNode failure) throws JsonProcessingException {
+        PointRequest request = objectMapper.treeToValue(failure.get("originalRequest"), PointRequest.class);
+        String timestamp = textOrNull(failure.path("timestamp"));
+        if (request.getPurchasedAt() == null && timestamp != null) {
+            try {
+                request.setPurchasedAt(LocalDateTime.parse(timestamp));
+            } catch (DateTimeParseException e) {
+                log.debug("Ignoring unreadable failure timestamp: {}", timestamp);
             }
-        });
+        }
+        return request;
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node.isTextual() && !node.asText().isBlank() ? node.asText() : null;
     }
 
     /**
@@ -133,4 +351,10 @@ public class EventGridWebhookController {
     public Mono<ResponseEntity<ApiResponse<String>>> healthCheck() {
         return Mono.just(ResponseEntity.ok(ApiResponse.success("Healthy - " + LocalDateTime.now())));
     }
-}
\ No newline at end of file
+
+    private record Replay(PointRequest request, String idempotencyKey) {
+    }
+
+    private record Outcome(String status, String message, PointResponse response) {
+    }
+}
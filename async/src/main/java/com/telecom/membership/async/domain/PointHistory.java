@@ -3,12 +3,15 @@ package com.telecom.membership.async.domain;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Document(collection = "point_history")
+// 재시도 대상 조회 (RetryScheduler)
+@CompoundIndex(name = "idx_retry_due", def = "{'status': 1, 'nextAttemptAt': 1}")
 @Data
 @Builder
 public class PointHistory {
@@ -18,6 +21,13 @@ public class PointHistory {
     private String partnerId;
     private String partnerType;
     private BigDecimal amount;
+    // 재처리 시 point-service 중복 적립 방지 키로 다시 전달
+    private String receiptId;
+    // 원 요청의 Idempotency-Key, 재처리 시 같은 헤더로 다시 전달
+    private String idempotencyKey;
+    // 원 요청의 회원 등급과 구매 시각, 재처리 시 같은 적립률 규칙이 적용되도록 다시 전달
+    private String memberTier;
+    private LocalDateTime purchasedAt;
     private BigDecimal points;
     private LocalDateTime transactionTime;
     private String status;
@@ -25,4 +35,9 @@ public class PointHistory {
     private Integer retryCount;
     private String errorMessage;
     private LocalDateTime lastRetryTime;
+    // 다음 재시도 가능 시각 (없으면 즉시)
+    private LocalDateTime nextAttemptAt;
+    // 재시도를 맡은 워커와 점유 만료 시각
+    private String leaseOwner;
+    private LocalDateTime leaseUntil;
 }
@@ -0,0 +1,20 @@
+// File: membership/async/src/main/java/com/telecom/membership/async/dto/EventGridEvent.java
+package com.telecom.membership.async.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Event Grid 스키마 이벤트 (webhook 배치 전달의 배열 원소)
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EventGridEvent {
+    private String id;
+    private String eventType;
+    private String subject;
+    private JsonNode data;
+}
@@ -0,0 +1,36 @@
+// File: membership/async/src/main/java/com/telecom/membership/async/dto/EventResult.java
+package com.telecom.membership.async.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * webhook 배치 안 이벤트별 처리 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventResult {
+    public static final String SUCCESS = "SUCCESS";
+    // 일시적 실패, point_history 에 재시도 대상으로 저장해 RetryScheduler 가 다시 처리
+    public static final String RETRY_SCHEDULED = "RETRY_SCHEDULED";
+    // 처리 실패, 재시도 대상으로도 저장하지 못함
+    public static final String FAILED = "FAILED";
+    // 읽을 수 없거나 처리할 내용이 없는 이벤트, point-service 가 4xx 로 거절한 요청 (다시 보내도 결과가 같음)
+    public static final String SKIPPED = "SKIPPED";
+
+    private String id;
+    private String eventType;
+    private String status;
+    private String message;
+    private Object data;
+
+    @JsonIgnore
+    public boolean isFailed() {
+        return FAILED.equals(status);
+    }
+}
@@ -0,0 +1,299 @@
+// File: membership/async/src/main/java/com/telecom/membership/async/repository/PointHistoryBulkWriter.java
+package com.telecom.membership.async.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.telecom.membership.async.domain.PointHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * point_history 쓰기 배치 처리 (write-behind).
+ * <p>
+ * 동시에 들어온 insert 와 id 기준 updateOne 을 window 동안 또는 batch-size 건까지 모아 한 번의
+ * unordered bulk write 로 보내고, 호출자마다 Mono 를 따로 완료합니다. 일부 항목만 실패하면
+ * 해당 항목의 호출자에게만 오류를 전달합니다. 대기 중인 쓰기가 max-pending 을 넘으면 건별로 씁니다.
+ * <p>
+ * 한 bulk write 안의 순서는 보장되지 않으므로 같은 문서에 대한 쓰기를 동시에 보내는 곳에서는 쓰지 않습니다.
+ * updateOne 은 조건에 맞는 문서가 있었는지를 돌려줍니다. bulk 결과에는 항목별 일치 여부가 없어,
+ * 일치 건수가 요청 건수보다 적을 때만(점유를 잃은 경우 등) 각 update 의 $set/$unset 결과 상태로
+ * 문서를 다시 조회해 구분합니다. 일치 여부가 필요한 update 는 $set/$unset 만 사용합니다.
+ */
+@Slf4j
+@Component
+public class PointHistoryBulkWriter implements DisposableBean {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final int maxPending;
+    private final Duration shutdownTimeout;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final DistributionSummary batchSize;
+    private final Timer flushLatency;
+    private final Counter failedWrites;
+    private volatile FluxSink<PendingWrite> sink;
+    private final Disposable pipeline;
+
+    public PointHistoryBulkWriter(ReactiveMongoTemplate mongoTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${point.history.write.batch-size:200}") int maxBatchSize,
+                                  @Value("${point.history.write.window:10ms}") Duration window,
+                                  @Value("${point.history.write.max-concurrent-batches:4}") int maxConcurrentBatches,
+                                  @Value("${point.history.write.max-pending:20000}") int maxPending,
+                                  @Value("${point.history.write.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxPending = maxPending;
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.batchSize = DistributionSummary.builder("async.history.write.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("async.history.write.flush")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failedWrites = meterRegistry.counter("async.history.write.failed");
+        Gauge.builder("async.history.write.pending", pending, AtomicInteger::get)
+                .register(meterRegistry);
+
+        this.pipeline = Flux.<PendingWrite>create(s -> this.sink = s)
+                .bufferTimeout(maxBatchSize, window, true)
+                .flatMap(batch -> {
+                    pending.addAndGet(-batch.size());
+                    return flush(batch);
+                }, maxConcurrentBatches)
+                .doFinally(signal -> terminated.countDown())
+                .subscribe();
+    }
+
+    /**
+     * 이력을 추가합니다. id 가 없으면 미리 ObjectId 를 부여하므로 완료 시 id 가 채워져 있습니다.
+     */
+    public Mono<PointHistory> insert(PointHistory history) {
+        if (history.getId() == null) {
+            history.setId(new ObjectId().toHexString());
+        }
+        return submit(history, null, null, null).thenReturn(history);
+    }
+
+    /**
+     * id 와 condition 에 맞는 문서 한 건을 갱신합니다.
+     *
+     * @param condition 추가 조건 (없으면 null)
+     * @return 조건에 맞는 문서가 있어 갱신했는지
+     */
+    public Mono<Boolean> update(String id, Criteria condition, Update update) {
+        return submit(null, id, condition, update);
+    }
+
+    private Mono<Boolean> submit(PointHistory insert, String id, Criteria condition, Update update) {
+        return Mono.create(caller -> {
+            PendingWrite write = new PendingWrite(insert, id, condition, update, caller);
+            if (!enqueue(write)) {
+                flush(List.of(write)).subscribe();
+            }
+        });
+    }
+
+    /**
+     * 배치 대기열에 넣습니다. 종료 중이거나 대기 중인 쓰기가 max-pending 을 넘으면 false (호출 측이 건별로 씀)
+     */
+    private synchronized boolean enqueue(PendingWrite write) {
+        if (sink == null) {
+            return false;
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            return false;
+        }
+        sink.next(write);
+        return true;
+    }
+
+    /**
+     * 한 배치를 unordered bulk write 로 보내고 항목별로 호출자를 완료합니다.
+     */
+    private Mono<Void> flush(List<PendingWrite> batch) {
+        batchSize.record(batch.size());
+        long start = System.nanoTime();
+
+        ReactiveBulkOperations operations = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED, PointHistory.class);
+        for (int i = 0; i < batch.size(); i++) {
+            PendingWrite write = batch.get(i);
+            if (write.insert() != null) {
+                operations.insert(write.insert());
+            } else {
+                Criteria criteria = Criteria.where("_id").is(write.id());
+                if (write.condition() != null) {
+                    criteria = criteria.andOperator(write.condition());
+                }
+                operations.updateOne(Query.query(criteria), write.update());
+            }
+        }
+
+        return operations.execute()
+                .map(result -> new Outcome(result, Map.of()))
+                .onErrorResume(e -> partialFailure(e) != null, e -> Mono.just(partialFailure(e)))
+                .flatMap(outcome -> complete(batch, outcome))
+                .doOnSuccess(done -> flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                .onErrorResume(e -> {
+                    log.error("Failed to write batch of {} point histories", batch.size(), e);
+                    failedWrites.increment(batch.size());
+                    batch.forEach(write -> write.caller().error(e));
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> complete(List<PendingWrite> batch, Outcome outcome) {
+        Set<Integer> updates = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.get(i).insert() == null && !outcome.errors().containsKey(i)) {
+                updates.add(i);
+            }
+        }
+        long matched = outcome.result() != null ? outcome.result().getMatchedCount() : 0;
+
+        Mono<Set<Integer>> matchedUpdates = matched >= updates.size()
+                ? Mono.just(updates)
+                : findMatched(batch, updates);
+
+        return matchedUpdates
+                .doOnNext(matchedIndexes -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        PendingWrite write = batch.get(i);
+                        BulkWriteError error = outcome.errors().get(i);
+                        if (error != null) {
+                            failedWrites.increment();
+                            write.caller().error(translate(error));
+                        } else {
+                            write.caller().success(write.insert() != null || matchedIndexes.contains(i));
+                        }
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * 각 update 가 적용된 뒤의 상태($set 값, $unset 필드 없음)인 문서를 조회해 실제 갱신된 update 를 찾습니다.
+     * 다른 쓰기가 같은 값을 남긴 문서는 구분하지 못하지만, 점유 조건이 있는 update 에서는 드뭅니다.
+     */
+    private Mono<Set<Integer>> findMatched(List<PendingWrite> batch, Set<Integer> updates) {
+        Map<String, Integer> indexById = new HashMap<>();
+        List<Criteria> applied = new ArrayList<>();
+        for (int i : updates) {
+            PendingWrite write = batch.get(i);
+            indexById.put(write.id(), i);
+            applied.add(appliedState(write));
+        }
+        Query query = Query.query(new Criteria().orOperator(applied));
+        query.fields().include("_id");
+
+        return mongoTemplate.find(query, PointHistory.class)
+                .mapNotNull(history -> indexById.get(history.getId()))
+                .collect(Collectors.toSet());
+    }
+
+    private static Criteria appliedState(PendingWrite write) {
+        Document operations = write.update().getUpdateObject();
+        List<Criteria> fields = new ArrayList<>();
+        fields.add(Criteria.where("_id").is(write.id()));
+        if (operations.get("$set") instanceof Document set) {
+            set.forEach((field, value) -> fields.add(Criteria.where(field).is(value)));
+        }
+        if (operations.get("$unset") instanceof Document unset) {
+            unset.keySet().forEach(field -> fields.add(Criteria.where(field).exists(false)));
+        }
+        return new Criteria().andOperator(fields);
+    }
+
+    /**
+     * 일부 항목만 실패한 bulk write 오류면 항목별 결과를, 아니면 null
+     */
+    private static Outcome partialFailure(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof MongoBulkWriteException bulk) {
+                return Outcome.of(bulk.getWriteResult(), bulk.getWriteErrors());
+            }
+            if (e instanceof BulkOperationException bulk) {
+                return Outcome.of(bulk.getResult(), bulk.getErrors());
+            }
+        }
+        return null;
+    }
+
+    private static RuntimeException translate(BulkWriteError error) {
+        String message = "point_history bulk write failed (code " + error.getCode() + "): " + error.getMessage();
+        return error.getCode() == DUPLICATE_KEY
+                ? new DuplicateKeyException(message)
+                : new UncategorizedMongoDbException(message, null);
+    }
+
+    /**
+     * 남은 쓰기를 모두 보낸 뒤 종료합니다. 이후 들어온 쓰기는 건별로 씁니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        FluxSink<PendingWrite> target;
+        synchronized (this) {
+            target = sink;
+            sink = null;
+        }
+        if (target != null) {
+            target.complete();
+        }
+        if (!terminated.await(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            pipeline.dispose();
+        }
+    }
+
+    private record PendingWrite(PointHistory insert, String id, Criteria condition, Update update,
+                                MonoSink<Boolean> caller) {
+    }
+
+    private record Outcome(BulkWriteResult result, Map<Integer, BulkWriteError> errors) {
+        private static Outcome of(BulkWriteResult result, List<BulkWriteError> writeErrors) {
+            Map<Integer, BulkWriteError> errors = new HashMap<>();
+            writeErrors.forEach(error -> errors.put(error.getIndex(), error));
+            return new Outcome(result, errors);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+// File: membership/async/src/main/java/com/telecom/membership/async/repository/PointHistoryLeaseRepository.java
+package com.telecom.membership.async.repository;
+
+import com.telecom.membership.async.domain.PointHistory;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재시도 대상 점유(lease) 연산. {@link ReactivePointHistoryRepository} 에 포함됩니다.
+ */
+public interface PointHistoryLeaseRepository {
+
+    /**
+     * 재시도 시각이 dueBefore 이전이고 다른 워커가 점유하지 않은 이력 한 건을 원자적으로 점유합니다.
+     *
+     * @param leaseUntil 점유 만료 시각
+     * @return 점유한 이력, 없으면 empty
+     */
+    Mono<PointHistory> claimDue(LocalDateTime dueBefore, LocalDateTime now, int maxRetries,
+                                String owner, LocalDateTime leaseUntil);
+
+    /**
+     * 점유되지 않은 재시도 대상 중 가장 이른 재시도 시각. 재시도 시각이 없는 이력이 있으면 now
+     */
+    Mono<LocalDateTime> findNextAttemptAt(LocalDateTime now, int maxRetries);
+
+    /**
+     * 재시도 성공 기록. 아직 owner 가 점유 중일 때만 반영합니다.
+     *
+     * @return 반영 여부 (false 면 점유가 만료되어 다른 워커에 넘어감)
+     */
+    Mono<Boolean> complete(String id, String owner, BigDecimal points, LocalDateTime now);
+
+    /**
+     * 재시도 실패 기록과 다음 재시도 예약. 아직 owner 가 점유 중일 때만 반영합니다.
+     *
+     * @param leaseUntil 점유를 유지할 시각, null 이면 점유를 풀어 다른 워커도 가져갈 수 있게 함
+     */
+    Mono<Boolean> reschedule(String id, String owner, String status, int retryCount, String errorMessage,
+                             LocalDateTime nextAttemptAt, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * owner 가 점유한 이력의 점유를 풉니다.
+     */
+    Mono<Long> release(List<String> ids, String owner);
+}
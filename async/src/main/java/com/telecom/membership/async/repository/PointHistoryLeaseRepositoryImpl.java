@@ -0,0 +1,108 @@
+// File: membership/async/src/main/java/com/telecom/membership/async/repository/PointHistoryLeaseRepositoryImpl.java
+package com.telecom.membership.async.repository;
+
+import com.telecom.membership.async.domain.PointHistory;
+import com.telecom.membership.common.enums.TransactionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class PointHistoryLeaseRepositoryImpl implements PointHistoryLeaseRepository {
+
+    private static final List<String> RETRYABLE = List.of(
+            TransactionStatus.PENDING.name(), TransactionStatus.FAILED.name());
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final PointHistoryBulkWriter bulkWriter;
+
+    @Override
+    public Mono<PointHistory> claimDue(LocalDateTime dueBefore, LocalDateTime now, int maxRetries,
+                                       String owner, LocalDateTime leaseUntil) {
+        Query query = Query.query(retryable(now, maxRetries).and("nextAttemptAt").not().gt(dueBefore))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+        Update update = new Update()
+                .set("leaseOwner", owner)
+                .set("leaseUntil", leaseUntil);
+
+        return mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), PointHistory.class);
+    }
+
+    @Override
+    public Mono<LocalDateTime> findNextAttemptAt(LocalDateTime now, int maxRetries) {
+        Query query = Query.query(retryable(now, maxRetries))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"))
+                .limit(1);
+        query.fields().include("nextAttemptAt");
+
+        return mongoTemplate.findOne(query, PointHistory.class)
+                .map(history -> Optional.ofNullable(history.getNextAttemptAt()).orElse(now));
+    }
+
+    @Override
+    public Mono<Boolean> complete(String id, String owner, BigDecimal points, LocalDateTime now) {
+        Update update = new Update()
+                .set("status", TransactionStatus.COMPLETED.name())
+                .set("points", points)
+                .set("lastRetryTime", now)
+                .unset("nextAttemptAt")
+                .unset("leaseOwner")
+                .unset("leaseUntil");
+        return updateLeased(id, owner, update);
+    }
+
+    @Override
+    public Mono<Boolean> reschedule(String id, String owner, String status, int retryCount, String errorMessage,
+                                    LocalDateTime nextAttemptAt, LocalDateTime now, LocalDateTime leaseUntil) {
+        Update update = new Update()
+                .set("status", status)
+                .set("retryCount", retryCount)
+                .set("errorMessage", errorMessage)
+                .set("lastRetryTime", now)
+                .set("nextAttemptAt", nextAttemptAt);
+        if (leaseUntil != null) {
+            update.set("leaseUntil", leaseUntil);
+        } else {
+            update.unset("leaseOwner").unset("leaseUntil");
+        }
+        return updateLeased(id, owner, update);
+    }
+
+    @Override
+    public Mono<Long> release(List<String> ids, String owner) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids).and("leaseOwner").is(owner));
+        Update update = new Update().unset("leaseOwner").unset("leaseUntil");
+        return mongoTemplate.updateMulti(query, update, PointHistory.class)
+                .map(result -> result.getModifiedCount());
+    }
+
+    /**
+     * 재시도 가능 상태이고 점유되지 않았거나 점유가 만료된 이력 ($not $gt 는 필드가 없는 문서도 포함)
+     */
+    private Criteria retryable(LocalDateTime now, int maxRetries) {
+        return Criteria.where("status").in(RETRYABLE)
+                .and("retryCount").lt(maxRetries)
+                .and("leaseUntil").not().gt(now);
+    }
+
+    /**
+     * 점유 중인 이력만 갱신합니다. 재시도 결과 반영은 건수가 많아 bulk writer 로 모아서 씁니다.
+     */
+    private Mono<Boolean> updateLeased(String id, String owner, Update update) {
+        return bulkWriter.update(id, Criteria.where("leaseOwner").is(owner), update);
+    }
+}
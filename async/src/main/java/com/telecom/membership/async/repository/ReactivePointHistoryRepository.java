@@ -9,7 +9,7 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
 
 public interface ReactivePointHistoryRepository
-    extends ReactiveMongoRepository<PointHistory, String> {
+    extends ReactiveMongoRepository<PointHistory, String>, PointHistoryLeaseRepository {
     
     Flux<PointHistory> findByStatusAndRetryCountLessThan(
         String status, int retryCount);
@@ -0,0 +1,209 @@
+// File: membership/async/src/main/java/com/telecom/membership/async/scheduler/RetryPacer.java
+package com.telecom.membership.async.scheduler;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Circuit Breaker 상태에 맞춰 재시도 속도를 조절합니다.
+ * <p>
+ * <ul>
+ *     <li>OPEN: 재시도를 멈춥니다. {@link #acquire()} 는 상태가 바뀔 때까지 기다립니다
+ *     (OPEN 을 벗어나려면 automaticTransitionFromOpenToHalfOpenEnabled 가 켜져 있어야 합니다).</li>
+ *     <li>HALF_OPEN: halfOpenRate 로 소량만 보냅니다.</li>
+ *     <li>HALF_OPEN 에서 CLOSED 로 회복: rampInitialRate 부터 rampStep 마다 두 배씩 올리되,
+ *     CLOSED 에서 OPEN 이 되기 직전 capacityWindow 동안 관측한 초당 최대 성공 건수의 capacityRatio 배를 넘지 않습니다.
+ *     HALF_OPEN 시험 호출이 실패해 다시 OPEN 이 되면 시험 호출량만 관측되므로 이전 상한을 그대로 씁니다.
+ *     상한에 도달한 뒤 recoveryHold 동안 CLOSED 를 유지하면 회복을 끝내고 평상시 속도로 돌아갑니다.</li>
+ * </ul>
+ * 성공 건수는 Circuit Breaker 를 거친 모든 호출(실시간 처리 포함)로 측정합니다.
+ * maxRate 가 0 이하이면 평상시에는 제한하지 않습니다.
+ */
+@Slf4j
+public class RetryPacer {
+
+    @Getter
+    @Builder
+    public static class Options {
+        /** HALF_OPEN 에서 초당 재시도 수 */
+        @Builder.Default
+        private final double halfOpenRate = 1;
+        /** 회복 직후 초당 재시도 수 */
+        @Builder.Default
+        private final double rampInitialRate = 2;
+        /** 재시도 속도를 두 배로 올리는 간격 */
+        @Builder.Default
+        private final Duration rampStep = Duration.ofSeconds(5);
+        /** 측정한 처리량 대비 재시도 속도 상한 비율 */
+        @Builder.Default
+        private final double capacityRatio = 0.8;
+        /** 처리량 측정 윈도우 (최대 60초) */
+        @Builder.Default
+        private final Duration capacityWindow = Duration.ofSeconds(60);
+        /** 상한 도달 후 회복을 끝내기까지 CLOSED 를 유지해야 하는 시간 */
+        @Builder.Default
+        private final Duration recoveryHold = Duration.ofSeconds(60);
+        /** 평상시 초당 최대 재시도 수 (0 이하면 제한 없음) */
+        private final double maxRate;
+    }
+
+    private static final int BUCKETS = 60;
+
+    private final Options options;
+    private final Sinks.Many<CircuitBreaker.State> states = Sinks.many().replay().latest();
+
+    // 초 단위 성공 건수 (epochSecond % BUCKETS 위치, 같은 위치의 초는 stamps 로 구분)
+    private final AtomicLongArray successCounts = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray successStamps = new AtomicLongArray(BUCKETS);
+
+    private volatile CircuitBreaker.State state;
+    /** 회복(HALF_OPEN -> CLOSED) 시작 시각(ns), 회복 중이 아니면 0 */
+    private volatile long recoveringSince;
+    /** 회복 중 재시도 속도 상한 */
+    private volatile double recoveryCap = Double.POSITIVE_INFINITY;
+    /** 회복 중 상한에 처음 도달한 시각(ns), 아직이면 0 */
+    private volatile long capReachedAt;
+    private long nextFreeNanos;
+
+    public RetryPacer(CircuitBreaker circuitBreaker, Options options) {
+        this.options = options;
+        this.state = circuitBreaker.getState();
+        states.tryEmitNext(state);
+
+        circuitBreaker.getEventPublisher()
+                .onSuccess(event -> recordSuccess())
+                .onStateTransition(event -> onTransition(
+                        event.getStateTransition().getFromState(), event.getStateTransition().getToState()));
+    }
+
+    /**
+     * 재시도 한 건을 보낼 수 있을 때 완료됩니다. OPEN 동안에는 기다리고, 그 외에는 현재 속도에 맞춰 지연합니다.
+     */
+    public Mono<Void> acquire() {
+        return states.asFlux()
+                .filter(current -> !isPausing(current))
+                .next()
+                .flatMap(current -> {
+                    long delayNanos = reserve();
+                    return delayNanos > 0
+                            ? Mono.delay(Duration.ofNanos(delayNanos)).then()
+                            : Mono.<Void>empty();
+                })
+                // 기다리는 동안 다시 OPEN 이 되었으면 다시 대기
+                .then(Mono.defer(() -> isPaused() ? acquire() : Mono.empty()));
+    }
+
+    public boolean isPaused() {
+        return isPausing(state);
+    }
+
+    /**
+     * 현재 초당 재시도 허용 수. 제한이 없으면 {@link Double#POSITIVE_INFINITY}
+     */
+    public double currentRate() {
+        return switch (state) {
+            case OPEN, FORCED_OPEN -> 0;
+            case HALF_OPEN -> options.getHalfOpenRate();
+            default -> closedRate(System.nanoTime());
+        };
+    }
+
+    private double closedRate(long now) {
+        double max = options.getMaxRate() > 0 ? options.getMaxRate() : Double.POSITIVE_INFINITY;
+        long since = recoveringSince;
+        if (since == 0) {
+            return max;
+        }
+        long steps = (now - since) / options.getRampStep().toNanos();
+        double ramped = options.getRampInitialRate() * Math.pow(2, Math.min(steps, 30));
+        double cap = Math.min(max, recoveryCap);
+        if (ramped < cap) {
+            return ramped;
+        }
+        long reached = capReachedAt;
+        if (reached == 0) {
+            capReachedAt = now;
+            reached = now;
+        }
+        if (Double.isInfinite(recoveryCap) || now - reached >= options.getRecoveryHold().toNanos()) {
+            // 측정한 상한이 없거나 상한에서 recoveryHold 동안 CLOSED 를 유지하면 회복 종료
+            recoveringSince = 0;
+            log.info("Retry ramp-up finished, back to normal rate");
+            return max;
+        }
+        return cap;
+    }
+
+    private synchronized long reserve() {
+        double rate = currentRate();
+        if (Double.isInfinite(rate)) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long at = Math.max(now, nextFreeNanos);
+        nextFreeNanos = at + (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(rate, 0.001));
+        return at - now;
+    }
+
+    private void onTransition(CircuitBreaker.State from, CircuitBreaker.State to) {
+        if (isPausing(to)) {
+            if (from == CircuitBreaker.State.CLOSED) {
+                // HALF_OPEN 에서 다시 OPEN 이 된 경우는 시험 호출량만 관측되므로 이전 상한 유지
+                double capacity = peakSuccessRate();
+                recoveryCap = capacity > 0
+                        ? Math.max(options.getHalfOpenRate(), capacity * options.getCapacityRatio())
+                        : Double.POSITIVE_INFINITY;
+            }
+            recoveringSince = 0;
+            log.warn("Pausing retries while circuit breaker is {} (recovery cap {}/s)", to, recoveryCap);
+        } else if (from == CircuitBreaker.State.HALF_OPEN && to == CircuitBreaker.State.CLOSED) {
+            capReachedAt = 0;
+            recoveringSince = System.nanoTime();
+            log.info("Ramping up retries from {}/s, capped at {}/s", options.getRampInitialRate(), recoveryCap);
+        }
+        synchronized (this) {
+            // 이전 상태에서 예약된 간격을 버리고 새 속도로 시작
+            nextFreeNanos = 0;
+        }
+        state = to;
+        states.emitNext(to, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    private void recordSuccess() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        int index = (int) Math.floorMod(second, BUCKETS);
+        long stamp = successStamps.get(index);
+        if (stamp != second && successStamps.compareAndSet(index, stamp, second)) {
+            successCounts.set(index, 0);
+        }
+        successCounts.incrementAndGet(index);
+    }
+
+    /**
+     * capacityWindow 동안 초당 최대 성공 건수 (진행 중인 현재 초는 제외)
+     */
+    private double peakSuccessRate() {
+        long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long window = Math.min(BUCKETS - 1, options.getCapacityWindow().toSeconds());
+        long peak = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long stamp = successStamps.get(i);
+            if (stamp < now && now - stamp <= window) {
+                peak = Math.max(peak, successCounts.get(i));
+            }
+        }
+        return peak;
+    }
+
+    private static boolean isPausing(CircuitBreaker.State state) {
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+}
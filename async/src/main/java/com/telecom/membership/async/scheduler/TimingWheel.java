@@ -0,0 +1,160 @@
+// File: membership/async/src/main/java/com/telecom/membership/async/scheduler/TimingWheel.java
+package com.telecom.membership.async.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠 지연 큐입니다.
+ * <p>
+ * 시간을 tick 단위 슬롯(wheelSize 개, 2의 거듭제곱)으로 나누고 항목을 만료 tick 의 슬롯에 넣습니다.
+ * 한 바퀴보다 먼 항목은 남은 바퀴 수를 기록해 두고 슬롯을 지날 때마다 줄입니다.
+ * 추가는 lock-free 대기열에 넣기만 하고(O(1)), 슬롯 배치와 만료는 전용 스레드가 tick 마다 수행합니다.
+ * 만료 시각의 정밀도는 tick 입니다.
+ */
+@Slf4j
+public class TimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Entry<T>>[] slots;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Consumer<T> onExpire;
+    private final Scheduler scheduler;
+    private final long startNanos;
+    private final Disposable ticker;
+
+    /** 처리한 tick 수 (ticker 스레드에서만 접근) */
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(String name, Duration tickDuration, int wheelSize, Consumer<T> onExpire) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = wheelSize - 1;
+        this.slots = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.onExpire = onExpire;
+        this.scheduler = Schedulers.newSingle(name);
+        this.startNanos = System.nanoTime();
+        this.ticker = scheduler.schedulePeriodically(
+                this::advance, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * delay 뒤에 onExpire 로 전달되도록 항목을 추가합니다.
+     */
+    public void schedule(T item, Duration delay) {
+        long deadline = System.nanoTime() - startNanos + Math.max(0, delay.toNanos());
+        size.incrementAndGet();
+        pending.offer(new Entry<>(item, deadline));
+    }
+
+    /**
+     * 아직 만료되지 않은 항목 수
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 휠을 멈추고 만료되지 않은 항목을 돌려줍니다.
+     */
+    public List<T> stop() {
+        ticker.dispose();
+        CompletableFuture<List<T>> remaining = new CompletableFuture<>();
+        // 슬롯은 ticker 스레드에서만 다루므로 같은 스레드에서 회수
+        scheduler.schedule(() -> {
+            drainPending();
+            List<T> items = new ArrayList<>();
+            for (List<Entry<T>> slot : slots) {
+                slot.forEach(entry -> items.add(entry.item));
+                slot.clear();
+            }
+            remaining.complete(items);
+        });
+        try {
+            return remaining.get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Failed to collect timing wheel entries on stop: {}", e.getMessage());
+            return List.of();
+        } finally {
+            scheduler.dispose();
+            size.set(0);
+        }
+    }
+
+    /**
+     * 밀린 tick 까지 모두 처리합니다.
+     */
+    private void advance() {
+        long elapsedTicks = (System.nanoTime() - startNanos) / tickNanos;
+        while (tick <= elapsedTicks) {
+            drainPending();
+            expire(slots[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void drainPending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            long deadlineTick = Math.max(entry.deadline / tickNanos, tick);
+            entry.remainingRounds = (deadlineTick - tick) / slots.length;
+            slots[(int) (deadlineTick & mask)].add(entry);
+        }
+    }
+
+    private void expire(List<Entry<T>> slot) {
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            Entry<T> entry = slot.get(i);
+            if (entry.remainingRounds > 0) {
+                entry.remainingRounds--;
+                slot.set(kept++, entry);
+                continue;
+            }
+            size.decrementAndGet();
+            try {
+                onExpire.accept(entry.item);
+            } catch (RuntimeException e) {
+                log.error("Timing wheel expiry handler failed", e);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+    }
+
+    private static class Entry<T> {
+        private final T item;
+        /** 휠 생성 시점 기준 만료 시각(ns) */
+        private final long deadline;
+        private long remainingRounds;
+
+        private Entry(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -1,12 +1,8 @@
 // File: membership/common/src/main/java/com/telecom/membership/common/service/EventGridService.java
 package com.telecom.membership.async.service;
 
-import com.azure.core.util.BinaryData;
-import com.azure.messaging.eventgrid.EventGridEvent;
-import com.azure.messaging.eventgrid.EventGridPublisherClient;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.membership.common.event.EventGridBatchPublisher;
 import com.telecom.membership.common.event.EventMessage;
-import com.telecom.membership.common.exception.PointException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,33 +12,14 @@ import reactor.core.publisher.Mono;
 @Slf4j
 @RequiredArgsConstructor
 public class EventGridService {
-    private final EventGridPublisherClient client;
-    private final ObjectMapper objectMapper;
+    private final EventGridBatchPublisher publisher;
 
+    /**
+     * 이벤트를 배치 발행 버퍼에 적재합니다. Event Grid 전송은 전용 스케줄러에서 처리되므로
+     * 호출 스레드는 네트워크 응답을 기다리지 않습니다.
+     */
     public <T> Mono<Void> publishEvent(EventMessage<T> message) {
-        return Mono.fromRunnable(() -> {
-            try {
-                EventGridEvent event = createEvent(message);
-                client.sendEvent(event);
-                log.debug("Published event: {}", message);
-            } catch (Exception e) {
-                log.error("Failed to publish event: {}", e.getMessage(), e);
-                throw new PointException.EventPublishException(e);
-            }
-        });
+        return publisher.publish(message)
+                .doOnSuccess(v -> log.debug("Queued event: {}", message.getEventType()));
     }
-
-    private <T> EventGridEvent createEvent(EventMessage<T> message) {
-        try {
-            String jsonData = objectMapper.writeValueAsString(message.getData());
-            return new EventGridEvent(
-                    message.getSubject(),
-                    message.getEventType(),
-                    BinaryData.fromString(jsonData),
-                    "1.0"
-            );
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to serialize event data", e);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -2,9 +2,10 @@
 package com.telecom.membership.async.service;
 
 import com.telecom.membership.async.domain.PointHistory;
-import com.telecom.membership.async.repository.ReactivePointHistoryRepository;
+import com.telecom.membership.async.repository.PointHistoryBulkWriter;
 import com.telecom.membership.common.dto.PointRequest;
 import com.telecom.membership.common.dto.PointResponse;
+import com.telecom.membership.common.enums.TransactionStatus;
 import com.telecom.membership.common.service.PointProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,11 +18,18 @@ import java.time.LocalDateTime;
 @Service
 @RequiredArgsConstructor
 public class PointHistoryManager {
-    private final ReactivePointHistoryRepository historyRepository;
+    private final PointHistoryBulkWriter historyWriter;
     private final PointProcessor pointProcessor;
 
     public Mono<PointResponse> processPointAccumulation(PointRequest request) {
-        return pointProcessor.processPoints(request)
+        return processPointAccumulation(request, null);
+    }
+
+    /**
+     * @param idempotencyKey 원 요청의 Idempotency-Key (없으면 null), point-service 호출과 이력에 그대로 전달
+     */
+    public Mono<PointResponse> processPointAccumulation(PointRequest request, String idempotencyKey) {
+        return pointProcessor.processPoints(request, idempotencyKey)
                 .flatMap(response -> {
                     // PointHistory 생성
                     PointHistory history = PointHistory.builder()
@@ -29,6 +37,10 @@ public class PointHistoryManager {
                             .partnerId(request.getPartnerId())
                             .partnerType(request.getPartnerType())
                             .amount(request.getAmount())
+                            .receiptId(request.getReceiptId())
+                            .idempotencyKey(idempotencyKey)
+                            .memberTier(request.getMemberTier())
+                            .purchasedAt(request.getPurchasedAt())
                             .points(response.getPoints())
                             .transactionTime(LocalDateTime.now())
                             .status(response.getStatus())
@@ -37,7 +49,7 @@ public class PointHistoryManager {
                             .build();
 
                     // PointHistory를 저장하고 원본 response를 유지
-                    return historyRepository.save(history)
+                    return historyWriter.insert(history)
                             .map(savedHistory -> {
                                 // savedHistory 정보를 response에 반영
                                 return PointResponse.builder()
@@ -61,4 +73,37 @@ public class PointHistoryManager {
                             error);
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * 저장된 이력의 적립을 다시 처리합니다. 결과는 호출 측(RetryScheduler)이 기존 이력에 반영하므로 새 이력을 만들지 않습니다.
+     */
+    public Mono<PointResponse> reprocess(PointRequest request, String idempotencyKey) {
+        return pointProcessor.processPoints(request, idempotencyKey);
+    }
+
+    /**
+     * 처리하지 못한 적립 요청을 재시도 대상(FAILED)으로 저장합니다. RetryScheduler 가 점유해 다시 처리합니다.
+     */
+    public Mono<PointHistory> saveForRetry(PointRequest request, String idempotencyKey, Throwable error) {
+        LocalDateTime now = LocalDateTime.now();
+        PointHistory history = PointHistory.builder()
+                .memberId(request.getMemberId())
+                .partnerId(request.getPartnerId())
+                .partnerType(request.getPartnerType())
+                .amount(request.getAmount())
+                .receiptId(request.getReceiptId())
+                .idempotencyKey(idempotencyKey)
+                .memberTier(request.getMemberTier())
+                .purchasedAt(request.getPurchasedAt() != null ? request.getPurchasedAt() : now)
+                .transactionTime(now)
+                .status(TransactionStatus.FAILED.name())
+                .processType("ACCUMULATION")
+                .retryCount(0)
+                .errorMessage(error.getMessage())
+                .nextAttemptAt(now)
+                .build();
+        return historyWriter.insert(history)
+                .doOnNext(saved -> log.info("Saved failed accumulation for retry: id={}, memberId={}",
+                        saved.getId(), saved.getMemberId()));
+    }
+}
@@ -2,7 +2,6 @@ package com.telecom.membership.async.service;
 
 import com.telecom.membership.common.dto.PointRequest;
 import com.telecom.membership.common.dto.PointResponse;
-import com.telecom.membership.common.event.EventMessage;
 import com.telecom.membership.common.service.PointProcessor;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -17,10 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-
 @Slf4j
 @Service
 public class PointProcessorImpl implements PointProcessor {
@@ -28,29 +23,31 @@ public class PointProcessorImpl implements PointProcessor {
     private final WebClient webClient;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final RetryRegistry retryRegistry;
-    private final EventGridService eventGridService;
 
     @Value("${services.point.url}")
     private String pointServiceUrl;
 
     public PointProcessorImpl(WebClient webClient,
                               CircuitBreakerRegistry circuitBreakerRegistry,
-                              RetryRegistry retryRegistry,
-                              EventGridService eventGridService) {
+                              RetryRegistry retryRegistry) {
         this.webClient = webClient;
         this.circuitBreakerRegistry = circuitBreakerRegistry;
         this.retryRegistry = retryRegistry;
-        this.eventGridService = eventGridService;
     }
 
     @Override
-    public Mono<PointResponse> processPoints(PointRequest request) {
+    public Mono<PointResponse> processPoints(PointRequest request, String idempotencyKey) {
         CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("async-processor");
         Retry retry = retryRegistry.retry("async-retry");
 
         return webClient.post()
                 .uri(pointServiceUrl + "/api/points/accumulate")
                 .contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(PointRequest.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(PointResponse.class)
@@ -59,37 +56,8 @@ public class PointProcessorImpl implements PointProcessor {
                 .doOnSuccess(response ->
                         log.info("Point accumulation processed successfully for memberId={}",
                                 request.getMemberId()))
-                .onErrorResume(throwable -> {
-                    log.error("Error processing point accumulation for memberId={}",
-                            request.getMemberId(), throwable);
-
-                    // 실패 정보를 포함한 데이터 구성
-                    Map<String, Object> failureData = new HashMap<>();
-                    failureData.put("originalRequest", request);
-                    failureData.put("error", throwable.getMessage());
-                    failureData.put("timestamp", LocalDateTime.now().toString());
-                    failureData.put("service", "point-service");
-
-                    // Circuit Breaker 상태 정보 추가
-                    if (circuitBreaker != null) {
-                        failureData.put("circuitBreakerState", circuitBreaker.getState().name());
-                        failureData.put("failureRate", circuitBreaker.getMetrics().getFailureRate());
-                    }
-
-                    // Retry 정보 추가
-                    if (retry != null) {
-                        failureData.put("retryCount", retry.getMetrics().getNumberOfSuccessfulCallsWithRetryAttempt());
-                    }
-
-                    // Event Grid로 메시지 발행
-                    EventMessage<Map<String, Object>> message = EventMessage.<Map<String, Object>>builder()
-                            .subject("point-processing-failed")
-                            .eventType("ProcessingFailed")
-                            .data(failureData)
-                            .build();
-
-                    return eventGridService.publishEvent(message)
-                            .then(Mono.error(throwable)); // 원본 에러를 전파하여 재시도 로직이 동작하도록 함
-                });
+                // 실패는 호출 측이 처리 (webhook 은 point_history 에 재시도 대상으로 저장, RetryScheduler 는 이력 갱신)
+                .doOnError(throwable -> log.error("Error processing point accumulation for memberId={}",
+                        request.getMemberId(), throwable));
     }
 }
\ No newline at end of file
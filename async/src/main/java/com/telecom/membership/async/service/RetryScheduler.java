@@ -3,54 +3,256 @@ package com.telecom.membership.async.service;
 
 import com.telecom.membership.async.domain.PointHistory;
 import com.telecom.membership.async.repository.ReactivePointHistoryRepository;
+import com.telecom.membership.async.scheduler.RetryPacer;
+import com.telecom.membership.async.scheduler.TimingWheel;
 import com.telecom.membership.common.dto.PointRequest;
 import com.telecom.membership.common.dto.PointResponse;
 import com.telecom.membership.common.enums.TransactionStatus;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
-import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
-import io.github.resilience4j.reactor.retry.RetryOperator;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryRegistry;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
-@Configuration
+/**
+ * 실패한 적립 요청 재시도 워커.
+ * <p>
+ * 가까운 시일(wheel.horizon 이내)에 재시도할 이력은 점유(lease)를 유지한 채 메모리의 {@link TimingWheel} 에 두고
+ * 시각이 되면 바로 재시도하므로, 재시도 간격이 폴링 주기가 아닌 백오프 시간만큼으로 줄어듭니다.
+ * 먼 재시도와 wheel.max-entries 를 넘는 분량은 점유를 풀고 MongoDB 에만 예약(spill)해 두며,
+ * 폴링은 그 중 가장 이른 재시도 시각이 horizon 안에 들어올 때(최대 max-idle-poll 간격)만 MongoDB 를 조회해
+ * find-and-modify 로 점유한 뒤 휠에 올립니다. 기동 직후 첫 폴링이 휠을 다시 채웁니다.
+ * <p>
+ * 점유는 원자적이므로 여러 파드가 같은 이력을 나눠 갖지 않습니다. 파드가 죽으면 lease-duration 이 지난 뒤
+ * 다른 파드가 가져가고, 정상 종료 시에는 휠에 남은 이력의 점유를 풀어 줍니다.
+ * 실패하면 지수 백오프에 지터를 더한 시각으로 다음 재시도를 예약합니다.
+ * <p>
+ * 재시도 속도는 async-processor Circuit Breaker 상태에 맞춰 {@link RetryPacer} 가 조절합니다
+ * (OPEN 동안 멈춤, HALF_OPEN 에서 소량, 회복 후 점진적으로 증가). OPEN 인 Circuit Breaker 에 거부된 호출은
+ * 실제로 point-service 에 보내지 않았으므로 재시도 횟수를 늘리지 않고 다시 대기시킵니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class RetryScheduler {
+public class RetryScheduler implements InitializingBean, DisposableBean {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
     private final ReactivePointHistoryRepository historyRepository;
     private final PointHistoryManager historyManager;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
-    private final RetryRegistry retryRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final String owner = Optional.ofNullable(System.getenv("HOSTNAME")).orElse("async")
+            + "-" + UUID.randomUUID();
+
+    @Value("${point.retry.max-count:3}")
+    private int maxRetries;
+
+    @Value("${point.retry.page-size:50}")
+    private int pageSize;
+
+    @Value("${point.retry.concurrency:8}")
+    private int concurrency;
+
+    @Value("${point.retry.lease-duration:120s}")
+    private Duration leaseDuration;
+
+    @Value("${point.retry.backoff.initial:5s}")
+    private Duration initialBackoff;
+
+    @Value("${point.retry.backoff.max:30m}")
+    private Duration maxBackoff;
+
+    @Value("${point.retry.max-idle-poll:60s}")
+    private Duration maxIdlePoll;
+
+    @Value("${point.retry.wheel.horizon:60s}")
+    private Duration wheelHorizon;
+
+    @Value("${point.retry.wheel.max-entries:10000}")
+    private int wheelCapacity;
+
+    @Value("${point.retry.wheel.tick:100ms}")
+    private Duration wheelTick;
+
+    @Value("${point.retry.wheel.size:1024}")
+    private int wheelSize;
+
+    @Value("${point.retry.pacing.half-open-rate:1}")
+    private double halfOpenRate;
+
+    @Value("${point.retry.pacing.ramp-initial-rate:2}")
+    private double rampInitialRate;
+
+    @Value("${point.retry.pacing.ramp-step:5s}")
+    private Duration rampStep;
+
+    @Value("${point.retry.pacing.capacity-ratio:0.8}")
+    private double capacityRatio;
+
+    @Value("${point.retry.pacing.recovery-hold:60s}")
+    private Duration recoveryHold;
+
+    @Value("${point.retry.pacing.max-rate:0}")
+    private double maxRate;
 
-    @Scheduled(fixedDelayString = "${point.retry.interval:30000}")
-    public void retryFailedRequests() {
-        log.info("Starting retry of pending point requests");
+    private TimingWheel<PointHistory> wheel;
+    private RetryPacer pacer;
+    private final Sinks.Many<PointHistory> due = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable worker;
+    // 휠에 있거나 처리 중인 이력 수
+    private final AtomicInteger inMemory = new AtomicInteger();
+    // 다음 MongoDB 폴링 시각 (epoch ms)
+    private final AtomicLong nextPollAt = new AtomicLong();
 
-        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("async-processor");
-        Retry retry = retryRegistry.retry("async-retry");
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter exhausted;
+    private final Counter leaseLost;
+    private final Counter spilled;
+    private final Counter rejected;
 
-        historyRepository.findPendingRetries(3)
-                .flatMap(history -> processRetry(history, circuitBreaker, retry))
-                .subscribe(
-                        success -> log.debug("Retry processed successfully: {}", success.getId()),
-                        error -> log.error("Error during retry processing", error)
-                );
+    public RetryScheduler(ReactivePointHistoryRepository historyRepository,
+                          PointHistoryManager historyManager,
+                          CircuitBreakerRegistry circuitBreakerRegistry,
+                          MeterRegistry meterRegistry) {
+        this.historyRepository = historyRepository;
+        this.historyManager = historyManager;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.meterRegistry = meterRegistry;
+
+        this.completed = meterRegistry.counter("async.retry.processed", "result", "completed");
+        this.failed = meterRegistry.counter("async.retry.processed", "result", "failed");
+        this.exhausted = meterRegistry.counter("async.retry.processed", "result", "exhausted");
+        this.leaseLost = meterRegistry.counter("async.retry.processed", "result", "lease_lost");
+        this.spilled = meterRegistry.counter("async.retry.spilled");
+        this.rejected = meterRegistry.counter("async.retry.processed", "result", "rejected");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        pacer = new RetryPacer(circuitBreakerRegistry.circuitBreaker("async-processor"), RetryPacer.Options.builder()
+                .halfOpenRate(halfOpenRate)
+                .rampInitialRate(rampInitialRate)
+                .rampStep(rampStep)
+                .capacityRatio(capacityRatio)
+                .recoveryHold(recoveryHold)
+                .maxRate(maxRate)
+                .build());
+        wheel = new TimingWheel<>("retry-wheel", wheelTick, wheelSize,
+                history -> due.emitNext(history, Sinks.EmitFailureHandler.FAIL_FAST));
+        worker = due.asFlux()
+                .flatMap(history -> pacer.acquire()
+                                .then(Mono.defer(() -> processRetry(history)))
+                                .doFinally(signal -> inMemory.decrementAndGet()),
+                        concurrency)
+                .subscribe();
+
+        Gauge.builder("async.retry.wheel.size", wheel, TimingWheel::size)
+                .register(meterRegistry);
+        Gauge.builder("async.retry.inmemory", inMemory, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("async.retry.pacer.rate", pacer, RetryPacer::currentRate)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        List<String> ids = wheel.stop().stream().map(PointHistory::getId).toList();
+        worker.dispose();
+        try {
+            Long released = historyRepository.release(ids, owner).block(Duration.ofSeconds(5));
+            log.info("Released {} retry leases on shutdown", released);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release retry leases, they expire after {}: {}", leaseDuration, e.getMessage());
+        }
     }
 
-    private Mono<PointHistory> processRetry(PointHistory history, CircuitBreaker circuitBreaker, Retry retry) {
-        return Mono.just(convertToPointRequest(history))
-                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
-                .transformDeferred(RetryOperator.of(retry))
-                .flatMap(historyManager::processPointAccumulation)
+    /**
+     * horizon 안에 재시도할 이력을 MongoDB 에서 점유해 휠에 올립니다.
+     * 다음 재시도 시각이 아직 멀면 MongoDB 를 조회하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${point.retry.interval:1000}")
+    public Mono<Void> retryFailedRequests() {
+        long nowMillis = System.currentTimeMillis();
+        int capacity = wheelCapacity - inMemory.get();
+        // Circuit Breaker 가 열려 있는 동안에는 새로 점유하지 않음 (점유만 하고 처리하지 못하면 만료됨)
+        if (nowMillis < nextPollAt.get() || capacity <= 0 || pacer.isPaused()) {
+            return Mono.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueBefore = now.plus(wheelHorizon);
+        LocalDateTime leaseUntil = dueBefore.plus(leaseDuration);
+
+        return Mono.defer(() -> historyRepository.claimDue(dueBefore, now, maxRetries, owner, leaseUntil))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .repeat()
+                .takeWhile(Optional::isPresent)
+                .take(Math.min(pageSize, capacity))
+                .map(Optional::get)
+                .doOnNext(history -> schedule(history, now))
+                .count()
+                .flatMap(claimed -> {
+                    if (claimed > 0) {
+                        log.info("Loaded {} pending point retries", claimed);
+                    }
+                    if (claimed >= Math.min(pageSize, capacity)) {
+                        // 남은 대상이 더 있을 수 있으므로 다음 주기에 바로 다시 조회
+                        return Mono.empty();
+                    }
+                    nextPollAt.set(nowMillis + maxIdlePoll.toMillis());
+                    return historyRepository.findNextAttemptAt(now, maxRetries)
+                            .doOnNext(this::pollBefore);
+                })
+                .doOnError(error -> log.error("Error during retry processing", error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void schedule(PointHistory history, LocalDateTime now) {
+        inMemory.incrementAndGet();
+        LocalDateTime nextAttemptAt = history.getNextAttemptAt();
+        Duration delay = nextAttemptAt != null && nextAttemptAt.isAfter(now)
+                ? Duration.between(now, nextAttemptAt)
+                : Duration.ZERO;
+        wheel.schedule(history, delay);
+    }
+
+    /**
+     * nextAttemptAt 이 horizon 에 들어오기 전에 폴링하도록 다음 폴링 시각을 당깁니다.
+     */
+    private void pollBefore(LocalDateTime nextAttemptAt) {
+        long pollAt = nextAttemptAt.minus(wheelHorizon).atZone(ZONE).toInstant().toEpochMilli();
+        nextPollAt.accumulateAndGet(pollAt, Math::min);
+    }
+
+    private Mono<PointHistory> processRetry(PointHistory history) {
+        if (history.getLeaseUntil() != null && history.getLeaseUntil().isBefore(LocalDateTime.now())) {
+            // 대기하는 동안 점유가 만료됨, 다른 워커(또는 다음 폴링)가 다시 점유
+            leaseLost.increment();
+            return Mono.empty();
+        }
+        // Circuit Breaker/Retry 는 PointProcessorImpl 의 point-service 호출에 적용됨
+        return historyManager.reprocess(convertToPointRequest(history), history.getIdempotencyKey())
                 .flatMap(response -> updateHistory(history, response))
                 .onErrorResume(error -> handleRetryError(history, error));
     }
@@ -61,26 +263,96 @@ public class RetryScheduler {
                 .partnerId(history.getPartnerId())
                 .partnerType(history.getPartnerType())
                 .amount(history.getAmount())
+                .receiptId(history.getReceiptId())
+                .memberTier(history.getMemberTier())
+                .purchasedAt(history.getPurchasedAt())
                 .build();
     }
 
     private Mono<PointHistory> updateHistory(PointHistory history, PointResponse response) {
-        history.setStatus(TransactionStatus.COMPLETED.name());
-        history.setPoints(response.getPoints());
-        history.setLastRetryTime(LocalDateTime.now());
-        return historyRepository.save(history);
+        return historyRepository.complete(history.getId(), owner, response.getPoints(), LocalDateTime.now())
+                .doOnNext(updated -> (updated ? completed : leaseLost).increment())
+                .thenReturn(history);
     }
 
+    /**
+     * 실패 기록과 다음 재시도 예약. horizon 안이고 휠에 여유가 있으면 점유를 유지한 채 휠에 다시 넣고,
+     * 아니면 점유를 풀어 MongoDB 에 맡깁니다.
+     */
     private Mono<PointHistory> handleRetryError(PointHistory history, Throwable error) {
+        if (error instanceof CallNotPermittedException) {
+            return handleRejected(history);
+        }
         log.error("Retry failed for history id={}", history.getId(), error);
-        history.setStatus(
-                history.getRetryCount() >= 3 ?
-                        TransactionStatus.MAX_RETRY_EXCEEDED.name() :
-                        TransactionStatus.FAILED.name()
-        );
-        history.setErrorMessage(error.getMessage());
-        history.setRetryCount(history.getRetryCount() + 1);
-        history.setLastRetryTime(LocalDateTime.now());
-        return historyRepository.save(history);
+        int retryCount = Optional.ofNullable(history.getRetryCount()).orElse(0) + 1;
+        boolean exceeded = retryCount >= maxRetries;
+        Duration backoff = backoff(retryCount);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextAttemptAt = now.plus(backoff);
+        boolean keep = !exceeded && backoff.compareTo(wheelHorizon) <= 0 && inMemory.get() < wheelCapacity;
+
+        return historyRepository.reschedule(history.getId(), owner,
+                        exceeded ? TransactionStatus.MAX_RETRY_EXCEEDED.name() : TransactionStatus.FAILED.name(),
+                        retryCount, error.getMessage(), nextAttemptAt, now,
+                        keep ? nextAttemptAt.plus(leaseDuration) : null)
+                .doOnNext(updated -> {
+                    if (!updated) {
+                        leaseLost.increment();
+                        return;
+                    }
+                    (exceeded ? exhausted : failed).increment();
+                    if (keep) {
+                        history.setStatus(TransactionStatus.FAILED.name());
+                        history.setRetryCount(retryCount);
+                        history.setNextAttemptAt(nextAttemptAt);
+                        history.setLeaseUntil(nextAttemptAt.plus(leaseDuration));
+                        schedule(history, now);
+                    } else if (!exceeded) {
+                        spilled.increment();
+                        pollBefore(nextAttemptAt);
+                    }
+                })
+                .thenReturn(history);
+    }
+
+    /**
+     * OPEN 인 Circuit Breaker 에 거부된 재시도. 재시도 횟수는 그대로 두고 점유를 연장해 휠에 다시 넣습니다.
+     * 휠에 여유가 없으면 점유를 풀어 MongoDB 에 맡깁니다.
+     */
+    private Mono<PointHistory> handleRejected(PointHistory history) {
+        rejected.increment();
+        LocalDateTime now = LocalDateTime.now();
+        boolean keep = inMemory.get() < wheelCapacity;
+        LocalDateTime leaseUntil = keep ? now.plus(leaseDuration) : null;
+
+        return historyRepository.reschedule(history.getId(), owner,
+                        Optional.ofNullable(history.getStatus()).orElse(TransactionStatus.FAILED.name()),
+                        Optional.ofNullable(history.getRetryCount()).orElse(0),
+                        "Circuit breaker open", now, now, leaseUntil)
+                .doOnNext(updated -> {
+                    if (!updated) {
+                        leaseLost.increment();
+                    } else if (keep) {
+                        history.setNextAttemptAt(now);
+                        history.setLeaseUntil(leaseUntil);
+                        // 지연 없이 넣어도 pacer 가 Circuit Breaker 가 닫힐 때까지 붙잡음
+                        schedule(history, now);
+                    } else {
+                        spilled.increment();
+                        pollBefore(now);
+                    }
+                })
+                .thenReturn(history);
+    }
+
+    /**
+     * initial * 2^(retryCount-1) 을 max 로 제한한 뒤 절반은 고정, 절반은 무작위로 둡니다 (equal jitter).
+     * 같은 시점에 실패한 이력들의 재시도가 한꺼번에 몰리지 않게 합니다.
+     */
+    private Duration backoff(int retryCount) {
+        long base = initialBackoff.toMillis() << Math.min(retryCount - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
     }
 }
@@ -3,14 +3,22 @@ package com.telecom.membership.common.dto;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PointRequest {
+    // 중복 적립 방지 키 헤더 (gateway 가 재처리 이벤트에 담아 async 재처리 호출에 다시 전달)
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @NotNull
     private String memberId;
     
@@ -24,4 +32,13 @@ public class PointRequest {
     @NotNull
     @Positive
     private BigDecimal amount;
+
+    // 파트너 영수증 번호 (있으면 partnerId 와 함께 중복 적립 방지 키로 사용)
+    private String receiptId;
+
+    // 회원 등급 (등급별 적립률 규칙에 사용, 없으면 등급 무관 규칙만 적용)
+    private String memberTier;
+
+    // 구매 시각 (적립률 규칙의 적용 기간 기준, 없으면 처리 시각). 재처리 요청은 처음 받은 시각을 전달
+    private LocalDateTime purchasedAt;
 }
@@ -0,0 +1,264 @@
+// File: membership/common/src/main/java/com/telecom/membership/common/event/EventGridBatchPublisher.java
+package com.telecom.membership.common.event;
+
+import com.azure.core.util.BinaryData;
+import com.azure.messaging.eventgrid.EventGridEvent;
+import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.membership.common.exception.PointException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Event Grid 이벤트를 메모리 버퍼에 모았다가 전용 스케줄러에서 배치로 발행합니다.
+ * <p>
+ * {@link #publish(EventMessage)}는 버퍼에 적재만 하고 즉시 완료되므로
+ * 요청 처리 스레드(Reactor Netty 이벤트 루프)가 Event Grid 응답을 기다리지 않습니다.
+ * 배치는 {@code batchSize}에 도달하거나 {@code flushInterval}이 지나면 비동기 클라이언트의
+ * {@code sendEvents}로 전송됩니다.
+ */
+@Slf4j
+public class EventGridBatchPublisher implements DisposableBean {
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 정책
+     */
+    public enum OverflowPolicy {
+        /** 가장 오래된 이벤트를 버리고 새 이벤트를 적재 */
+        DROP_OLDEST,
+        /** 새 이벤트를 버림 */
+        DROP_NEWEST,
+        /** 새 이벤트를 버리고 호출자에게 오류를 반환 */
+        FAIL
+    }
+
+    @Getter
+    @Builder
+    public static class Options {
+        @Builder.Default
+        private final String name = "default";
+        @Builder.Default
+        private final int bufferCapacity = 10_000;
+        @Builder.Default
+        private final int batchSize = 100;
+        @Builder.Default
+        private final Duration flushInterval = Duration.ofMillis(200);
+        @Builder.Default
+        private final int maxInFlightBatches = 4;
+        @Builder.Default
+        private final Duration sendTimeout = Duration.ofSeconds(10);
+        @Builder.Default
+        private final OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+        @Builder.Default
+        private final Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
+
+    private final EventGridPublisherAsyncClient<EventGridEvent> client;
+    private final ObjectMapper objectMapper;
+    private final Options options;
+
+    private final BlockingQueue<EventGridEvent> buffer;
+    private final Scheduler scheduler;
+    private final Disposable flushTask;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer publishLatency;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    public EventGridBatchPublisher(EventGridPublisherAsyncClient<EventGridEvent> client,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   Options options) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.options = options;
+        this.buffer = new ArrayBlockingQueue<>(options.getBufferCapacity());
+        this.scheduler = Schedulers.newSingle("eventgrid-publisher-" + options.getName(), true);
+
+        String publisher = options.getName();
+        Gauge.builder("eventgrid.publisher.queue.depth", buffer, BlockingQueue::size)
+                .tag("publisher", publisher)
+                .register(meterRegistry);
+        Gauge.builder("eventgrid.publisher.inflight.batches", inFlightBatches, AtomicInteger::get)
+                .tag("publisher", publisher)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("eventgrid.publisher.batch.size")
+                .tag("publisher", publisher)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.publishLatency = Timer.builder("eventgrid.publisher.latency")
+                .tag("publisher", publisher)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("eventgrid.publisher.events")
+                .tag("publisher", publisher).tag("result", "published")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("eventgrid.publisher.events")
+                .tag("publisher", publisher).tag("result", "failed")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("eventgrid.publisher.events")
+                .tag("publisher", publisher).tag("result", "dropped")
+                .register(meterRegistry);
+
+        long intervalMillis = options.getFlushInterval().toMillis();
+        this.flushTask = scheduler.schedulePeriodically(
+                this::drain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이벤트를 버퍼에 적재합니다. Event Grid 전송을 기다리지 않고 바로 완료됩니다.
+     */
+    public <T> Mono<Void> publish(EventMessage<T> message) {
+        return Mono.fromRunnable(() -> enqueue(message));
+    }
+
+    private <T> void enqueue(EventMessage<T> message) {
+        if (closed.get()) {
+            droppedCounter.increment();
+            log.warn("Publisher is closed, dropping event: {}", message.getEventType());
+            return;
+        }
+
+        EventGridEvent event = createEvent(message);
+        if (!buffer.offer(event)) {
+            handleOverflow(event);
+        }
+
+        if (buffer.size() >= options.getBatchSize()) {
+            scheduler.schedule(this::drain);
+        }
+    }
+
+    private void handleOverflow(EventGridEvent event) {
+        droppedCounter.increment();
+        switch (options.getOverflowPolicy()) {
+            case DROP_OLDEST -> {
+                buffer.poll();
+                if (!buffer.offer(event)) {
+                    droppedCounter.increment();
+                }
+                log.warn("Event buffer full, dropped oldest event");
+            }
+            case DROP_NEWEST -> log.warn("Event buffer full, dropped event: {}", event.getEventType());
+            case FAIL -> throw new PointException.EventPublishException(
+                    new IllegalStateException("Event buffer is full"));
+        }
+    }
+
+    /**
+     * 전용 스케줄러에서만 호출됩니다. 동시 전송 배치 수 한도 내에서 버퍼를 비웁니다.
+     */
+    private void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (!buffer.isEmpty() && inFlightBatches.get() < options.getMaxInFlightBatches()) {
+                List<EventGridEvent> batch = new ArrayList<>(options.getBatchSize());
+                buffer.drainTo(batch, options.getBatchSize());
+                if (batch.isEmpty()) {
+                    break;
+                }
+                send(batch);
+            }
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void send(List<EventGridEvent> batch) {
+        inFlightBatches.incrementAndGet();
+        batchSizeSummary.record(batch.size());
+        long start = System.nanoTime();
+
+        client.sendEvents(batch)
+                .timeout(options.getSendTimeout())
+                .doFinally(signal -> {
+                    publishLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    inFlightBatches.decrementAndGet();
+                    if (!buffer.isEmpty() && !scheduler.isDisposed()) {
+                        scheduler.schedule(this::drain);
+                    }
+                })
+                .subscribe(
+                        null,
+                        error -> {
+                            failedCounter.increment(batch.size());
+                            log.error("Failed to publish {} events: {}", batch.size(), error.getMessage(), error);
+                        },
+                        () -> {
+                            publishedCounter.increment(batch.size());
+                            log.debug("Published {} events", batch.size());
+                        });
+    }
+
+    private <T> EventGridEvent createEvent(EventMessage<T> message) {
+        try {
+            String jsonData = objectMapper.writeValueAsString(message.getData());
+            return new EventGridEvent(
+                    message.getSubject(),
+                    message.getEventType(),
+                    BinaryData.fromString(jsonData),
+                    "1.0"
+            );
+        } catch (Exception e) {
+            throw new PointException.EventPublishException(e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 이벤트를 shutdownTimeout 안에서 모두 전송합니다.
+     */
+    @Override
+    public void destroy() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        flushTask.dispose();
+
+        long deadline = System.nanoTime() + options.getShutdownTimeout().toNanos();
+        while (!buffer.isEmpty()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                droppedCounter.increment(buffer.size());
+                log.warn("Shutdown timeout exceeded, {} events were not published", buffer.size());
+                break;
+            }
+            List<EventGridEvent> batch = new ArrayList<>(options.getBatchSize());
+            buffer.drainTo(batch, options.getBatchSize());
+            try {
+                client.sendEvents(batch).block(Duration.ofNanos(remaining));
+                publishedCounter.increment(batch.size());
+            } catch (Exception e) {
+                failedCounter.increment(batch.size());
+                log.error("Failed to flush {} events on shutdown: {}", batch.size(), e.getMessage());
+            }
+        }
+        scheduler.dispose();
+    }
+}
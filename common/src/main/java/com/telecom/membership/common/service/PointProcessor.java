@@ -6,5 +6,12 @@ import com.telecom.membership.common.dto.PointResponse;
 import reactor.core.publisher.Mono;
 
 public interface PointProcessor {
-    Mono<PointResponse> processPoints(PointRequest request);
+    default Mono<PointResponse> processPoints(PointRequest request) {
+        return processPoints(request, null);
+    }
+
+    /**
+     * @param idempotencyKey 원 요청의 Idempotency-Key 헤더 값 (없으면 null)
+     */
+    Mono<PointResponse> processPoints(PointRequest request, String idempotencyKey);
 }
\ No newline at end of file
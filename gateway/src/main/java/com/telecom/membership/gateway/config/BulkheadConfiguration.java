@@ -1,13 +1,20 @@
 // File: membership/gateway/src/main/java/com/telecom/membership/gateway/config/BulkheadConfiguration.java
 package com.telecom.membership.gateway.config;
 
+import com.telecom.membership.gateway.limiter.AdaptiveConcurrencyLimiter;
+import com.telecom.membership.gateway.limiter.AdaptiveLimiterRegistry;
+import com.telecom.membership.gateway.limiter.ConcurrencyLimiter;
+import com.telecom.membership.gateway.limiter.FairAdmissionScheduler;
+import com.telecom.membership.gateway.limiter.FixedConcurrencyLimiter;
 import io.github.resilience4j.bulkhead.BulkheadConfig;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
@@ -37,6 +44,55 @@ public class BulkheadConfiguration {
     @Value("${bulkhead.online.maxWaitDuration:1000}")
     private long onlineMaxWaitDuration;
 
+    // adaptive 모드에서 한도 하한 (상한은 maxConcurrentCalls)
+    @Value("${bulkhead.default.minConcurrentCalls:10}")
+    private int defaultMinConcurrentCalls;
+
+    @Value("${bulkhead.mart.minConcurrentCalls:20}")
+    private int martMinConcurrentCalls;
+
+    @Value("${bulkhead.convenience.minConcurrentCalls:40}")
+    private int convenienceMinConcurrentCalls;
+
+    @Value("${bulkhead.online.minConcurrentCalls:10}")
+    private int onlineMinConcurrentCalls;
+
+    // static: 설정값 고정 한도, adaptive: 측정 RTT 기반 한도 조정
+    @Value("${bulkhead.mode:static}")
+    private String mode;
+
+    @Value("${bulkhead.adaptive.tolerance:1.5}")
+    private double adaptiveTolerance;
+
+    @Value("${bulkhead.adaptive.smoothing:0.2}")
+    private double adaptiveSmoothing;
+
+    @Value("${bulkhead.adaptive.backoffRatio:0.9}")
+    private double adaptiveBackoffRatio;
+
+    @Value("${bulkhead.adaptive.noLoadRttWindow:30000}")
+    private long adaptiveNoLoadRttWindow;
+
+    // 모든 파트너가 공유하는 업스트림(point-service) 동시 처리 용량
+    @Value("${admission.capacity:300}")
+    private int admissionCapacity;
+
+    @Value("${admission.queue-capacity:500}")
+    private int admissionQueueCapacity;
+
+    // 용량 포화 시 파트너별 배분 가중치
+    @Value("${admission.weights.default:1}")
+    private int defaultWeight;
+
+    @Value("${admission.weights.mart:2}")
+    private int martWeight;
+
+    @Value("${admission.weights.convenience:4}")
+    private int convenienceWeight;
+
+    @Value("${admission.weights.online:1}")
+    private int onlineWeight;
+
     @Bean
     public BulkheadRegistry bulkheadRegistry() {
         // 기본 설정
@@ -71,4 +127,56 @@ public class BulkheadConfiguration {
 
         return registry;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public AdaptiveLimiterRegistry adaptiveLimiterRegistry(MeterRegistry meterRegistry) {
+        // 정적 설정값을 하한/상한으로 사용
+        Map<String, AdaptiveConcurrencyLimiter.Options> options = Map.of(
+                AdaptiveLimiterRegistry.DEFAULT, adaptiveOptions(defaultMinConcurrentCalls, defaultMaxConcurrentCalls),
+                "mart", adaptiveOptions(martMinConcurrentCalls, martMaxConcurrentCalls),
+                "convenience", adaptiveOptions(convenienceMinConcurrentCalls, convenienceMaxConcurrentCalls),
+                "online", adaptiveOptions(onlineMinConcurrentCalls, onlineMaxConcurrentCalls)
+        );
+        return new AdaptiveLimiterRegistry(options, meterRegistry);
+    }
+
+    private AdaptiveConcurrencyLimiter.Options adaptiveOptions(int minLimit, int maxLimit) {
+        return AdaptiveConcurrencyLimiter.Options.builder()
+                .minLimit(Math.min(minLimit, maxLimit))
+                .maxLimit(maxLimit)
+                .tolerance(adaptiveTolerance)
+                .smoothing(adaptiveSmoothing)
+                .backoffRatio(adaptiveBackoffRatio)
+                .noLoadRttWindow(Duration.ofMillis(adaptiveNoLoadRttWindow))
+                .build();
+    }
+
+    @Bean
+    public FairAdmissionScheduler fairAdmissionScheduler(BulkheadRegistry bulkheadRegistry,
+                                                         AdaptiveLimiterRegistry adaptiveLimiterRegistry,
+                                                         MeterRegistry meterRegistry) {
+        Map<String, Integer> weights = Map.of(
+                AdaptiveLimiterRegistry.DEFAULT, defaultWeight,
+                "mart", martWeight,
+                "convenience", convenienceWeight,
+                "online", onlineWeight
+        );
+
+        Map<String, FairAdmissionScheduler.PartnerOptions> partners = new HashMap<>();
+        weights.forEach((partner, weight) -> {
+            BulkheadConfig config = bulkheadRegistry.bulkhead(partner).getBulkheadConfig();
+            ConcurrencyLimiter limiter = "adaptive".equalsIgnoreCase(mode)
+                    ? adaptiveLimiterRegistry.limiter(partner)
+                    : new FixedConcurrencyLimiter(partner, config.getMaxConcurrentCalls());
+
+            partners.put(partner, FairAdmissionScheduler.PartnerOptions.builder()
+                    .limiter(limiter)
+                    .weight(weight)
+                    .queueCapacity(admissionQueueCapacity)
+                    .maxWait(config.getMaxWaitDuration())
+                    .build());
+        });
+
+        return new FairAdmissionScheduler(admissionCapacity, partners, AdaptiveLimiterRegistry.DEFAULT, meterRegistry);
+    }
+}
@@ -1,12 +1,18 @@
 // File: membership/common/src/main/java/com/telecom/membership/common/config/EventGridConfig.java
 package com.telecom.membership.gateway.config;
 import com.azure.core.credential.AzureKeyCredential;
-import com.azure.messaging.eventgrid.EventGridPublisherClient;
+import com.azure.messaging.eventgrid.EventGridEvent;
+import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
 import com.azure.messaging.eventgrid.EventGridPublisherClientBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.membership.common.event.EventGridBatchPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class EventGridConfig {
     @Value("${azure.eventgrid.endpoint}")
@@ -15,11 +21,46 @@ public class EventGridConfig {
     @Value("${azure.eventgrid.key}")
     private String key;
 
+    @Value("${azure.eventgrid.publisher.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${azure.eventgrid.publisher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${azure.eventgrid.publisher.flush-interval:200}")
+    private long flushInterval;
+
+    @Value("${azure.eventgrid.publisher.max-in-flight:4}")
+    private int maxInFlight;
+
+    @Value("${azure.eventgrid.publisher.overflow-policy:DROP_OLDEST}")
+    private EventGridBatchPublisher.OverflowPolicy overflowPolicy;
+
+    @Value("${azure.eventgrid.publisher.shutdown-timeout:10000}")
+    private long shutdownTimeout;
+
     @Bean
-    public EventGridPublisherClient eventGridPublisherClient() {
+    public EventGridPublisherAsyncClient<EventGridEvent> eventGridPublisherAsyncClient() {
         return new EventGridPublisherClientBuilder()
                 .endpoint(endpoint)
                 .credential(new AzureKeyCredential(key))
-                .buildEventGridEventPublisherClient();
+                .buildEventGridEventPublisherAsyncClient();
+    }
+
+    @Bean
+    public EventGridBatchPublisher eventGridBatchPublisher(
+            EventGridPublisherAsyncClient<EventGridEvent> client,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        return new EventGridBatchPublisher(client, objectMapper, meterRegistry,
+                EventGridBatchPublisher.Options.builder()
+                        .name("gateway")
+                        .bufferCapacity(bufferCapacity)
+                        .batchSize(batchSize)
+                        .flushInterval(Duration.ofMillis(flushInterval))
+                        .maxInFlightBatches(maxInFlight)
+                        .overflowPolicy(overflowPolicy)
+                        .shutdownTimeout(Duration.ofMillis(shutdownTimeout))
+                        .build());
     }
 }
@@ -0,0 +1,84 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/config/RateLimitConfiguration.java
+package com.telecom.membership.gateway.config;
+
+import com.telecom.membership.gateway.limiter.KeyedRateLimiter;
+import com.telecom.membership.gateway.limiter.RequestWeigher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Configuration
+public class RateLimitConfiguration {
+
+    @Value("${ratelimit.partner-id.rate:50}")
+    private double partnerIdRate;
+
+    @Value("${ratelimit.partner-id.burst:100}")
+    private int partnerIdBurst;
+
+    @Value("${ratelimit.partner-id.max-keys:50000}")
+    private int partnerIdMaxKeys;
+
+    @Value("${ratelimit.partner-id.heavy-hitter-threshold:2000}")
+    private long partnerIdHeavyHitterThreshold;
+
+    @Value("${ratelimit.member-id.rate:5}")
+    private double memberIdRate;
+
+    @Value("${ratelimit.member-id.burst:10}")
+    private int memberIdBurst;
+
+    @Value("${ratelimit.member-id.max-keys:200000}")
+    private int memberIdMaxKeys;
+
+    @Value("${ratelimit.member-id.heavy-hitter-threshold:200}")
+    private long memberIdHeavyHitterThreshold;
+
+    @Value("${ratelimit.idle-timeout:300000}")
+    private long idleTimeout;
+
+    @Value("${ratelimit.window:10000}")
+    private long window;
+
+    // 배치 API 요청 무게(항목 수) 계산
+    @Value("${ratelimit.weight.average-item-bytes:200}")
+    private int averageItemBytes;
+
+    @Value("${ratelimit.weight.chunk:100}")
+    private int chunkWeight;
+
+    @Bean
+    public RequestWeigher requestWeigher() {
+        return new RequestWeigher(Set.of("/api/points/accumulate/batch"), averageItemBytes, chunkWeight);
+    }
+
+    @Bean
+    public KeyedRateLimiter partnerIdRateLimiter(MeterRegistry meterRegistry) {
+        return new KeyedRateLimiter(KeyedRateLimiter.Options.builder()
+                .scope("partner_id")
+                .ratePerSecond(partnerIdRate)
+                .burst(partnerIdBurst)
+                .maxKeys(partnerIdMaxKeys)
+                .heavyHitterThreshold(partnerIdHeavyHitterThreshold)
+                .idleTimeout(Duration.ofMillis(idleTimeout))
+                .window(Duration.ofMillis(window))
+                .build(), meterRegistry);
+    }
+
+    @Bean
+    public KeyedRateLimiter memberIdRateLimiter(MeterRegistry meterRegistry) {
+        return new KeyedRateLimiter(KeyedRateLimiter.Options.builder()
+                .scope("member_id")
+                .ratePerSecond(memberIdRate)
+                .burst(memberIdBurst)
+                .maxKeys(memberIdMaxKeys)
+                .heavyHitterThreshold(memberIdHeavyHitterThreshold)
+                .idleTimeout(Duration.ofMillis(idleTimeout))
+                .window(Duration.ofMillis(window))
+                .build(), meterRegistry);
+    }
+}
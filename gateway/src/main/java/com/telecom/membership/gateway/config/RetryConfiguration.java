@@ -0,0 +1,51 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/config/RetryConfiguration.java
+package com.telecom.membership.gateway.config;
+
+import com.telecom.membership.gateway.limiter.RetryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RetryConfiguration {
+
+    @Value("${retry.budget.ratio:0.2}")
+    private double budgetRatio;
+
+    @Value("${retry.budget.min-per-second:5}")
+    private double budgetMinPerSecond;
+
+    @Value("${retry.budget.max-tokens:100}")
+    private int budgetMaxTokens;
+
+    // 헤지 요청 예산 (HedgingFilter)
+    @Value("${hedge.budget.ratio:0.1}")
+    private double hedgeBudgetRatio;
+
+    @Value("${hedge.budget.min-per-second:5}")
+    private double hedgeBudgetMinPerSecond;
+
+    @Value("${hedge.budget.max-tokens:50}")
+    private int hedgeBudgetMaxTokens;
+
+    @Bean
+    public RetryBudget retryBudget(MeterRegistry meterRegistry) {
+        return new RetryBudget(RetryBudget.Options.builder()
+                .name("retry")
+                .ratio(budgetRatio)
+                .minPerSecond(budgetMinPerSecond)
+                .maxTokens(budgetMaxTokens)
+                .build(), meterRegistry);
+    }
+
+    @Bean
+    public RetryBudget hedgeBudget(MeterRegistry meterRegistry) {
+        return new RetryBudget(RetryBudget.Options.builder()
+                .name("hedge")
+                .ratio(hedgeBudgetRatio)
+                .minPerSecond(hedgeBudgetMinPerSecond)
+                .maxTokens(hedgeBudgetMaxTokens)
+                .build(), meterRegistry);
+    }
+}
@@ -1,26 +1,32 @@
 // File: membership/gateway/src/main/java/com/telecom/membership/gateway/filter/BulkheadFilter.java
 package com.telecom.membership.gateway.filter;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
-import io.github.resilience4j.bulkhead.BulkheadFullException;
-import io.github.resilience4j.bulkhead.BulkheadRegistry;
-import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import com.telecom.membership.common.exception.PointException;
+import com.telecom.membership.gateway.limiter.FairAdmissionScheduler;
+import com.telecom.membership.gateway.limiter.RequestWeigher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BulkheadFilter implements WebFilter {
 
-    private final BulkheadRegistry bulkheadRegistry;
+    private final FairAdmissionScheduler admissionScheduler;
+    private final RequestWeigher requestWeigher;
 
     @Override
     @NonNull
@@ -34,16 +40,81 @@ public class BulkheadFilter implements WebFilter {
             return chain.filter(exchange);
         }
 
-        // 파트너 타입에 맞는 Bulkhead 가져오기
-        Bulkhead bulkhead = bulkheadRegistry.bulkhead(partnerType.toLowerCase());
+        // 파트너별 대기열에서 입장 허가를 받은 뒤 처리 (대기 중 스레드를 점유하지 않음)
+        // 배치 요청은 항목 수만큼 용량을 사용 (입장 시 chunk 까지, 나머지는 본문을 읽으며 추가로 입장)
+        int weight = requestWeigher.weigh(exchange.getRequest());
+        return admissionScheduler.acquire(partnerType, weight)
+                .onErrorResume(PointException.BulkheadFullException.class, e -> {
+                    log.warn("Bulkhead capacity full for partner type: {} ({})", partnerType, e.getMessage());
+                    return rejectFull(exchange).then(Mono.<FairAdmissionScheduler.Permit>empty());
+                })
+                .flatMap(permit -> process(exchange, chain, partnerType, weight, permit));
+    }
+
+    private Mono<Void> process(ServerWebExchange exchange, WebFilterChain chain, String partnerType,
+                               int weight, FairAdmissionScheduler.Permit permit) {
+        long start = System.nanoTime();
+        Permits permits = new Permits(permit);
+        ServerWebExchange metered = exchange.mutate()
+                .request(requestWeigher.meter(exchange.getRequest(), weight,
+                        cost -> admissionScheduler.acquire(partnerType, cost)
+                                .doOnError(PointException.BulkheadFullException.class, e -> permits.streamRejected = true)
+                                .doOnNext(permits::add)
+                                .then()))
+                .build();
 
-        return Mono.just(exchange)
-                .transformDeferred(BulkheadOperator.of(bulkhead))
-                .flatMap(chain::filter)
-                .onErrorResume(BulkheadFullException.class, e -> {
-                    log.warn("Bulkhead capacity full for partner type: {}", partnerType);
-                    exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
-                    return exchange.getResponse().setComplete();
+        return Mono.defer(() -> chain.filter(metered))
+                // 본문을 읽다가 추가 입장을 받지 못한 배치는 응답 전이면 503, 이미 응답 중이면 연결을 끊음
+                .onErrorResume(PointException.BulkheadFullException.class, e -> {
+                    log.warn("Bulkhead capacity full for partner type: {} while streaming batch ({})",
+                            partnerType, e.getMessage());
+                    return exchange.getResponse().isCommitted() ? Mono.error(e) : rejectFull(exchange);
+                })
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (signal == SignalType.CANCEL || permits.streamRejected) {
+                        // 업스트림 과부하가 아니라 이 게이트웨이의 입장 제한으로 끝난 경우 한도 조정에 반영하지 않음
+                        permits.release(FairAdmissionScheduler.Permit::onIgnore);
+                    } else if (signal == SignalType.ON_ERROR
+                            || (status != null && status.is5xxServerError())) {
+                        permits.release(FairAdmissionScheduler.Permit::onDropped);
+                    } else {
+                        long rttNanos = System.nanoTime() - start;
+                        permits.release(p -> p.onSuccess(rttNanos));
+                    }
                 });
     }
+
+    private Mono<Void> rejectFull(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        return exchange.getResponse().setComplete();
+    }
+
+    /**
+     * 한 요청이 받은 입장 허가 (배치 본문을 읽으며 추가로 받은 허가 포함).
+     * 반환한 뒤에 도착한 허가는 바로 반환합니다.
+     */
+    private static final class Permits {
+        private final List<FairAdmissionScheduler.Permit> granted = new ArrayList<>();
+        private boolean released;
+        private volatile boolean streamRejected;
+
+        private Permits(FairAdmissionScheduler.Permit permit) {
+            granted.add(permit);
+        }
+
+        private synchronized void add(FairAdmissionScheduler.Permit permit) {
+            if (released) {
+                permit.onIgnore();
+            } else {
+                granted.add(permit);
+            }
+        }
+
+        private synchronized void release(Consumer<FairAdmissionScheduler.Permit> completion) {
+            released = true;
+            granted.forEach(completion);
+            granted.clear();
+        }
+    }
 }
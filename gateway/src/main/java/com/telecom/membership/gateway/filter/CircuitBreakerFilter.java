@@ -1,18 +1,26 @@
 // File: membership/gateway/src/main/java/com/telecom/membership/gateway/filter/CircuitBreakerFilter.java
 package com.telecom.membership.gateway.filter;
 
-import com.telecom.membership.common.event.EventMessage;
-import com.telecom.membership.gateway.service.EventGridService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.membership.common.dto.PointRequest;
+import com.telecom.membership.gateway.service.CircuitBreakerEventAggregator;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -22,50 +30,99 @@ import java.util.Map;
 public class CircuitBreakerFilter extends AbstractGatewayFilterFactory<CircuitBreakerFilter.Config> {
 
     private final CircuitBreakerRegistry circuitBreakerRegistry;
-    private final EventGridService eventGridService;
+    private final CircuitBreakerEventAggregator eventAggregator;
+    private final ObjectMapper objectMapper;
+    private final int maxSampleBodyBytes;
     private static final Logger log = LoggerFactory.getLogger(CircuitBreakerFilter.class);
 
-    public CircuitBreakerFilter(CircuitBreakerRegistry circuitBreakerRegistry, EventGridService eventGridService) {
+    public CircuitBreakerFilter(CircuitBreakerRegistry circuitBreakerRegistry,
+                                CircuitBreakerEventAggregator eventAggregator,
+                                ObjectMapper objectMapper,
+                                @Value("${circuitbreaker.events.max-sample-body-bytes:8192}") int maxSampleBodyBytes) {
         super(Config.class);
         this.circuitBreakerRegistry = circuitBreakerRegistry;
-        this.eventGridService = eventGridService;
+        this.eventAggregator = eventAggregator;
+        this.objectMapper = objectMapper;
+        this.maxSampleBodyBytes = maxSampleBodyBytes;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
         CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("point-service");
+        // 상태 전이 이벤트는 집계기에서 즉시 발행
+        eventAggregator.register(circuitBreaker);
 
         return (exchange, chain) -> {
             return Mono.just(exchange)
                     .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
                     .flatMap(chain::filter)
-                    .onErrorResume(throwable -> {
-                        // 실패 정보 구성
-                        Map<String, Object> failureData = new HashMap<>();
-                        failureData.put("service", "point-service");
-                        failureData.put("timestamp", LocalDateTime.now().toString());
-                        failureData.put("path", exchange.getRequest().getPath().value());
-                        failureData.put("method", exchange.getRequest().getMethod().name());
-                        failureData.put("error", throwable.getMessage());
+                    .onErrorResume(throwable -> recordFailure(exchange, throwable)
+                            .then(Mono.fromRunnable(() -> {
+                                exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                                exchange.getResponse().getHeaders().add("X-Circuit-Open", "true");
+                                exchange.getResponse().getHeaders()
+                                        .add("X-Circuit-State", circuitBreaker.getState().name());
+                            }))
+                            .then(exchange.getResponse().setComplete()));
+        };
+    }
 
-                        EventMessage<Map<String, Object>> message = EventMessage.<Map<String, Object>>builder()
-                                .subject("point-service-circuit-opened")
-                                .eventType("CircuitBreakerOpened")
-                                .data(failureData)  // data() 메서드 사용
-                                .build();
+    /**
+     * 요청 단위 실패를 집계기에 기록합니다. 윈도우에 샘플 여유가 있을 때만 샘플을 만들고,
+     * 서킷이 열려 업스트림으로 전달되지 않은 POST 요청은 샘플 한도와 관계없이 본문을 담아 재처리 대상으로 넘깁니다.
+     */
+    private Mono<Void> recordFailure(ServerWebExchange exchange, Throwable throwable) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        String method = request.getMethod().name();
+        String partnerType = request.getHeaders().getFirst("X-Partner-Type");
+        String partnerKey = partnerType != null ? partnerType : "UNKNOWN";
+        // 서킷 오픈으로 거부된 요청만 본문이 아직 소비되지 않은 상태
+        boolean replayable = throwable instanceof CallNotPermittedException && request.getMethod() == HttpMethod.POST;
 
-                        return eventGridService.publishEvent(message)
-                                .then(Mono.fromRunnable(() -> {
-                                    exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
-                                    exchange.getResponse().getHeaders().add("X-Circuit-Open", "true");
-                                    exchange.getResponse().getHeaders()
-                                            .add("X-Circuit-State", circuitBreaker.getState().name());
-                                }))
-                                .then(exchange.getResponse().setComplete());
-                    });
-        };
+        if (!replayable && !eventAggregator.hasSampleCapacity()) {
+            eventAggregator.recordFailure(path, method, partnerKey, null);
+            return Mono.empty();
+        }
+
+        // 실패 정보 구성
+        Map<String, Object> failureData = new HashMap<>();
+        failureData.put("timestamp", LocalDateTime.now().toString());
+        failureData.put("path", path);
+        failureData.put("method", method);
+        failureData.put("partnerType", partnerKey);
+        failureData.put("partnerId", request.getHeaders().getFirst("X-Partner-Id"));
+        failureData.put("error", throwable.getMessage());
+
+        if (!replayable) {
+            eventAggregator.recordFailure(path, method, partnerKey, failureData);
+            return Mono.empty();
+        }
+
+        return DataBufferUtils.join(request.getBody(), maxSampleBodyBytes)
+                .map(buffer -> {
+                    int size = buffer.readableByteCount();
+                    try {
+                        return Tuples.of(objectMapper.readTree(buffer.asInputStream(true)), size);
+                    } catch (Exception e) {
+                        throw new IllegalArgumentException("Invalid request body", e);
+                    }
+                })
+                .doOnNext(body -> {
+                    failureData.put("originalRequest", body.getT1());
+                    // 재처리 때 point-service 가 같은 키로 중복 적립을 막도록 함께 전달
+                    failureData.put("idempotencyKey", request.getHeaders().getFirst(PointRequest.IDEMPOTENCY_KEY_HEADER));
+                    eventAggregator.recordReplay(path, method, partnerKey, failureData, body.getT2());
+                })
+                .onErrorResume(e -> {
+                    log.debug("Could not capture request body for failure sample: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> eventAggregator.recordFailure(path, method, partnerKey,
+                        eventAggregator.hasSampleCapacity() ? failureData : null)))
+                .then();
     }
 
     public static class Config {
     }
-}
\ No newline at end of file
+}
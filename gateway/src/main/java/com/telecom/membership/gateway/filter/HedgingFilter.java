@@ -0,0 +1,292 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/filter/HedgingFilter.java
+package com.telecom.membership.gateway.filter;
+
+import com.telecom.membership.gateway.limiter.LatencyPercentileTracker;
+import com.telecom.membership.gateway.limiter.RetryBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 멱등 GET 요청을 헤징합니다. (라우트 단위로 선택 적용)
+ * <p>
+ * 첫 시도가 라우트별로 추적한 응답 시간 분위수를 넘기면 별도 커넥션 풀로 두 번째 시도를 보내
+ * 다른 point-service 인스턴스에 도달하게 하고, 먼저 도착한 정상 응답을 사용하며 나머지는 취소합니다.
+ * 두 번째 시도는 헤지 예산({@link RetryBudget}) 토큰이 있을 때만 보냅니다.
+ * 어느 시도를 쓸지는 응답 헤더가 먼저 도착한 쪽으로 정하고, 본문은 메모리에 모으지 않고 그대로 흘려 전달하므로
+ * 큰 조회 응답도 헤징 없이 전달될 때와 같이 처리됩니다.
+ * <p>
+ * 모든 시도가 실패하면 마지막 업스트림 상태(응답이 없었으면 502)만 설정하고 응답을 커밋하지 않으므로,
+ * 앞에 둔 {@link RetryFilter} 가 재시도 대상 상태면 다시 시도할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class HedgingFilter extends AbstractGatewayFilterFactory<HedgingFilter.Config> implements DisposableBean {
+
+    // 프록시가 그대로 전달하면 안 되는 hop-by-hop 헤더
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "te", "trailer",
+            "proxy-authorization", "proxy-authenticate", "upgrade", "host", "content-length");
+
+    private final RetryBudget hedgeBudget;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionProvider primaryConnections;
+    private final ConnectionProvider hedgeConnections;
+    private final WebClient primaryClient;
+    private final WebClient hedgeClient;
+    private final Duration trackerWindow;
+    private final long trackerMinSamples;
+    private final Map<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+
+    public HedgingFilter(WebClient.Builder webClientBuilder,
+                         @Qualifier("hedgeBudget") RetryBudget hedgeBudget,
+                         MeterRegistry meterRegistry,
+                         @Value("${hedge.max-connections:200}") int maxConnections,
+                         @Value("${hedge.response-timeout:5000}") long responseTimeout,
+                         @Value("${hedge.tracker.window:30000}") long trackerWindow,
+                         @Value("${hedge.tracker.min-samples:100}") long trackerMinSamples) {
+        super(Config.class);
+        this.hedgeBudget = hedgeBudget;
+        this.meterRegistry = meterRegistry;
+        this.trackerWindow = Duration.ofMillis(trackerWindow);
+        this.trackerMinSamples = trackerMinSamples;
+
+        // 첫 시도와 헤지 시도가 서로 다른 커넥션(=다른 파드)을 사용하도록 풀을 분리
+        this.primaryConnections = ConnectionProvider.builder("hedge-primary")
+                .maxConnections(maxConnections)
+                .build();
+        this.hedgeConnections = ConnectionProvider.builder("hedge-secondary")
+                .maxConnections(maxConnections)
+                .build();
+        this.primaryClient = buildClient(webClientBuilder, primaryConnections, responseTimeout);
+        this.hedgeClient = buildClient(webClientBuilder, hedgeConnections, responseTimeout);
+    }
+
+    private static WebClient buildClient(WebClient.Builder builder, ConnectionProvider connections,
+                                         long responseTimeout) {
+        HttpClient httpClient = HttpClient.create(connections)
+                .responseTimeout(Duration.ofMillis(responseTimeout));
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            if (route == null || exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            RouteStats stats = routeStats.computeIfAbsent(route.getId(), RouteStats::new);
+            stats.requests.increment();
+            hedgeBudget.recordRequest();
+
+            URI target = UriComponentsBuilder.fromUri(route.getUri())
+                    .replacePath(exchange.getRequest().getURI().getRawPath())
+                    .replaceQuery(exchange.getRequest().getURI().getRawQuery())
+                    .build(true)
+                    .toUri();
+            Duration hedgeDelay = hedgeDelay(config, stats);
+            long start = System.nanoTime();
+
+            // 모든 시도가 실패했을 때 돌려줄 마지막 실패
+            AtomicReference<Throwable> lastFailure = new AtomicReference<>();
+            Mono<Attempt> primary = send(primaryClient, target, exchange.getRequest())
+                    .doOnError(lastFailure::set)
+                    .map(response -> new Attempt(response, false));
+            Mono<Attempt> hedge = Mono.delay(hedgeDelay)
+                    .filter(tick -> hedgeBudget.tryWithdraw())
+                    .doOnNext(tick -> stats.hedges.increment())
+                    .flatMap(tick -> send(hedgeClient, target, exchange.getRequest()))
+                    .doOnError(lastFailure::set)
+                    .map(response -> new Attempt(response, true));
+
+            // 헤더가 먼저 도착한 정상 응답 사용, 나머지 시도는 취소됨
+            return Mono.firstWithValue(primary, hedge)
+                    .flatMap(attempt -> {
+                        long elapsed = System.nanoTime() - start;
+                        stats.record(attempt, elapsed, config);
+                        return write(exchange, attempt);
+                    })
+                    .onErrorResume(NoSuchElementException.class,
+                            e -> failed(exchange, Optional.ofNullable(lastFailure.get()).orElse(e)));
+        };
+    }
+
+    /**
+     * 헤지 지연 = 추적 중인 분위수 응답 시간 (minDelay ~ maxDelay 범위).
+     * 샘플이 부족하면 maxDelay 를 사용합니다.
+     */
+    private Duration hedgeDelay(Config config, RouteStats stats) {
+        Duration percentile = stats.tracker.percentile(config.getPercentile());
+        if (percentile == null) {
+            return config.getMaxDelay();
+        }
+        if (percentile.compareTo(config.getMinDelay()) < 0) {
+            return config.getMinDelay();
+        }
+        return percentile.compareTo(config.getMaxDelay()) > 0 ? config.getMaxDelay() : percentile;
+    }
+
+    /**
+     * 업스트림 호출. 응답 헤더를 받으면 바로 완료되며 본문은 구독할 때 흘려 받습니다.
+     * 5xx 응답은 실패로 간주해 다른 시도의 응답을 기다리고, 4xx 는 그대로 전달합니다.
+     */
+    private Mono<ResponseEntity<Flux<DataBuffer>>> send(WebClient client, URI target, ServerHttpRequest request) {
+        return client.get()
+                .uri(target)
+                .headers(headers -> request.getHeaders().forEach((name, values) -> {
+                    if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                        headers.put(name, values);
+                    }
+                }))
+                .retrieve()
+                .onStatus(HttpStatusCode::is5xxServerError, ClientResponse::createException)
+                .onStatus(HttpStatusCode::is4xxClientError, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class);
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, Attempt attempt) {
+        ServerHttpResponse response = exchange.getResponse();
+        ResponseEntity<Flux<DataBuffer>> entity = attempt.response();
+        response.setStatusCode(entity.getStatusCode());
+        HttpHeaders headers = response.getHeaders();
+        entity.getHeaders().forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, values);
+            }
+        });
+        headers.add("X-Hedge-Winner", attempt.hedged() ? "hedge" : "primary");
+
+        Flux<DataBuffer> body = entity.getBody();
+        if (body == null) {
+            return response.setComplete();
+        }
+        return response.writeWith(body);
+    }
+
+    /**
+     * 모든 시도가 실패한 경우. 마지막 5xx 상태(응답이 없었으면 502)만 설정하고 커밋하지 않습니다.
+     */
+    private Mono<Void> failed(ServerWebExchange exchange, Throwable error) {
+        HttpStatusCode status = error instanceof WebClientResponseException response
+                ? response.getStatusCode()
+                : HttpStatus.BAD_GATEWAY;
+        log.warn("All attempts failed for {}: {}", exchange.getRequest().getPath(), error.toString());
+        exchange.getResponse().setStatusCode(status);
+        return Mono.empty();
+    }
+
+    @Override
+    public void destroy() {
+        primaryConnections.dispose();
+        hedgeConnections.dispose();
+    }
+
+    private record Attempt(ResponseEntity<Flux<DataBuffer>> response, boolean hedged) {
+    }
+
+    /**
+     * 라우트별 응답 시간 분포와 헤징 지표
+     */
+    private class RouteStats {
+        private final LatencyPercentileTracker tracker;
+        private final Counter requests;
+        private final Counter hedges;
+        private final Counter hedgeWins;
+        private final Timer latencySaved;
+        private final Timer primaryLatency;
+        private final Timer hedgeLatency;
+
+        private RouteStats(String routeId) {
+            this.tracker = new LatencyPercentileTracker(trackerWindow, trackerMinSamples);
+            this.requests = Counter.builder("gateway.hedge.requests")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            this.hedges = Counter.builder("gateway.hedge.sent")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            this.hedgeWins = Counter.builder("gateway.hedge.wins")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            this.latencySaved = Timer.builder("gateway.hedge.latency.saved")
+                    .description("헤지 응답 시간과 추적 중인 p99 의 차이 (추정치)")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            this.primaryLatency = Timer.builder("gateway.hedge.latency")
+                    .tag("route", routeId).tag("winner", "primary")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            this.hedgeLatency = Timer.builder("gateway.hedge.latency")
+                    .tag("route", routeId).tag("winner", "hedge")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+
+        private void record(Attempt attempt, long elapsedNanos, Config config) {
+            if (!attempt.hedged()) {
+                primaryLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                tracker.record(elapsedNanos);
+                return;
+            }
+
+            hedgeWins.increment();
+            hedgeLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            // 첫 시도는 취소되어 실제 지연을 알 수 없으므로, 최소한 지금까지의 경과 시간만큼 걸렸다고 기록
+            Duration p99 = tracker.percentile(0.99);
+            tracker.record(elapsedNanos);
+            if (p99 != null && p99.toNanos() > elapsedNanos) {
+                latencySaved.record(p99.toNanos() - elapsedNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Data
+    public static class Config {
+        /** 헤지 지연으로 사용할 응답 시간 분위수 */
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(20);
+        private Duration maxDelay = Duration.ofSeconds(1);
+    }
+}
@@ -1,50 +1,179 @@
 // File: membership/gateway/src/main/java/com/telecom/membership/gateway/filter/RateLimitingFilter.java
 package com.telecom.membership.gateway.filter;
 
+import com.telecom.membership.common.exception.PointException;
+import com.telecom.membership.gateway.limiter.KeyedRateLimiter;
+import com.telecom.membership.gateway.limiter.RequestWeigher;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
-import io.github.resilience4j.ratelimiter.RequestNotPermitted;
-import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
 import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitingFilter implements WebFilter {
 
+    // 설정이 있는 파트너 타입만 개별 rate limiter를 사용 (나머지는 default 공유)
+    private static final Set<String> PARTNER_TYPES = Set.of("mart", "convenience", "online");
+    private static final String DEFAULT_LIMITER = "default";
+
+    // 경로에 회원 ID가 들어가는 API
+    private static final List<String> MEMBER_PATH_PREFIXES = List.of(
+            "/api/points/transactions/"
+    );
+
     private final RateLimiterRegistry rateLimiterRegistry;
+    private final KeyedRateLimiter partnerIdRateLimiter;
+    private final KeyedRateLimiter memberIdRateLimiter;
+    private final RequestWeigher requestWeigher;
+
+    public RateLimitingFilter(RateLimiterRegistry rateLimiterRegistry,
+                              @Qualifier("partnerIdRateLimiter") KeyedRateLimiter partnerIdRateLimiter,
+                              @Qualifier("memberIdRateLimiter") KeyedRateLimiter memberIdRateLimiter,
+                              RequestWeigher requestWeigher) {
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.partnerIdRateLimiter = partnerIdRateLimiter;
+        this.memberIdRateLimiter = memberIdRateLimiter;
+        this.requestWeigher = requestWeigher;
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-        // 파트너 타입에 따라 적절한 rate limiter 선택
-        String partnerType = exchange.getRequest().getHeaders()
-                .getFirst("X-Partner-Type");
-
-        // 파트너 타입 헤더가 없으면 기본 처리
-        if (partnerType == null) {
-            return chain.filter(exchange);
-        }
-
-        // 파트너 타입에 해당하는 rate limiter 가져오기
-        RateLimiter limiter = rateLimiterRegistry.rateLimiter(partnerType.toLowerCase());
-
-        // rate limiter를 적용하여 요청 처리
-        return Mono.just(exchange)
-                .transformDeferred(RateLimiterOperator.of(limiter))
-                .flatMap(chain::filter)
-                .onErrorResume(RequestNotPermitted.class, e -> {
-                    log.warn("Rate limit exceeded for partner type: {}", partnerType);
-                    // 요청 거부 시 429 Too Many Requests 응답
-                    exchange.getResponse().setStatusCode(TOO_MANY_REQUESTS);
-                    return exchange.getResponse().setComplete();
-                });
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        // 배치 요청은 항목 수만큼 permit 사용 (입장 시 chunk 까지, 나머지는 본문을 읽으며 추가로 사용)
+        int weight = requestWeigher.weigh(exchange.getRequest());
+
+        // 가맹점(partnerId) / 회원(memberId) 단위 제한
+        String partnerId = headers.getFirst("X-Partner-Id");
+        String memberId = resolveMemberId(exchange);
+        String rejectedScope = tryAcquireKeyed(partnerId, memberId, weight);
+        if (rejectedScope != null) {
+            return reject(exchange, rejectedScope);
+        }
+
+        // 파트너 타입에 따라 적절한 rate limiter 선택 (헤더가 없으면 파트너 타입 제한 없이 처리)
+        String partnerType = headers.getFirst("X-Partner-Type");
+        RateLimiter limiter = partnerType != null ? partnerTypeLimiter(partnerType) : null;
+
+        ServerWebExchange metered = exchange.mutate()
+                .request(requestWeigher.meter(exchange.getRequest(), weight,
+                        permits -> chargeStreamed(exchange, partnerId, memberId, limiter, permits)))
+                .build();
+        Mono<Void> proceed = Mono.defer(() -> chain.filter(metered))
+                // 본문을 읽다가 한도를 넘은 배치는 응답 전이면 429, 이미 응답 중이면 연결을 끊음
+                .onErrorResume(PointException.RateLimitExceededException.class,
+                        e -> exchange.getResponse().isCommitted() ? Mono.error(e) : rejectStatus(exchange));
+
+        if (limiter == null) {
+            return proceed;
+        }
+
+        // 무게만큼 permit 을 예약하고 대기 시간이 timeoutDuration 이내면 기다린 뒤 처리
+        long waitNanos = reserve(limiter, weight);
+        if (waitNanos < 0) {
+            log.warn("Rate limit exceeded for partner type: {}", partnerType);
+            return reject(exchange, "partner-type");
+        }
+        if (waitNanos == 0) {
+            return proceed;
+        }
+        return Mono.delay(Duration.ofNanos(waitNanos)).then(proceed);
+    }
+
+    /**
+     * 배치 본문을 읽으며 추가로 매기는 무게. partnerId/memberId 한도를 넘으면 실패하고,
+     * 파트너 타입 한도는 timeoutDuration 이내면 기다려 업로드를 늦춥니다.
+     */
+    private Mono<Void> chargeStreamed(ServerWebExchange exchange, String partnerId, String memberId,
+                                      RateLimiter limiter, int permits) {
+        String rejectedScope = tryAcquireKeyed(partnerId, memberId, permits);
+        long waitNanos = 0;
+        if (rejectedScope == null && limiter != null) {
+            waitNanos = reserve(limiter, permits);
+            if (waitNanos < 0) {
+                log.warn("Rate limit exceeded for partner type: {} while streaming batch", limiter.getName());
+                rejectedScope = "partner-type";
+            }
+        }
+        if (rejectedScope != null) {
+            if (!exchange.getResponse().isCommitted()) {
+                exchange.getResponse().getHeaders().add("X-RateLimit-Scope", rejectedScope);
+            }
+            return Mono.error(new PointException.RateLimitExceededException(
+                    "Rate limit exceeded for " + rejectedScope + " while streaming batch"));
+        }
+        return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then() : Mono.empty();
+    }
+
+    /**
+     * partnerId, memberId 단위 제한. 거부되면 거부한 범위를, 아니면 null 을 반환합니다.
+     */
+    private String tryAcquireKeyed(String partnerId, String memberId, int weight) {
+        if (partnerId != null) {
+            KeyedRateLimiter.Decision decision = partnerIdRateLimiter.tryAcquire(partnerId, weight);
+            if (decision != KeyedRateLimiter.Decision.ALLOWED) {
+                log.warn("Rate limit exceeded for partnerId: {} ({})", partnerId, decision);
+                return "partner-id";
+            }
+        }
+        if (memberId != null) {
+            KeyedRateLimiter.Decision decision = memberIdRateLimiter.tryAcquire(memberId, weight);
+            if (decision != KeyedRateLimiter.Decision.ALLOWED) {
+                log.warn("Rate limit exceeded for memberId: {} ({})", memberId, decision);
+                return "member-id";
+            }
+        }
+        return null;
+    }
+
+    // 파트너 타입에 해당하는 rate limiter (알 수 없는 타입은 default 설정 공유)
+    private RateLimiter partnerTypeLimiter(String partnerType) {
+        String limiterName = PARTNER_TYPES.contains(partnerType.toLowerCase())
+                ? partnerType.toLowerCase()
+                : DEFAULT_LIMITER;
+        return rateLimiterRegistry.rateLimiter(limiterName, limiterName);
+    }
+
+    // 한 주기 한도보다 무거운 요청은 한 주기 전체를 사용
+    private static long reserve(RateLimiter limiter, int weight) {
+        return limiter.reservePermission(Math.min(weight, limiter.getRateLimiterConfig().getLimitForPeriod()));
+    }
+
+    private String resolveMemberId(ServerWebExchange exchange) {
+        String memberId = exchange.getRequest().getHeaders().getFirst("X-Member-Id");
+        if (memberId != null) {
+            return memberId;
+        }
+        String path = exchange.getRequest().getPath().value();
+        for (String prefix : MEMBER_PATH_PREFIXES) {
+            if (path.startsWith(prefix) && path.length() > prefix.length()) {
+                int end = path.indexOf('/', prefix.length());
+                return end < 0 ? path.substring(prefix.length()) : path.substring(prefix.length(), end);
+            }
+        }
+        return null;
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String scope) {
+        exchange.getResponse().getHeaders().add("X-RateLimit-Scope", scope);
+        return rejectStatus(exchange);
+    }
+
+    private Mono<Void> rejectStatus(ServerWebExchange exchange) {
+        // 요청 거부 시 429 Too Many Requests 응답
+        exchange.getResponse().setStatusCode(TOO_MANY_REQUESTS);
+        return exchange.getResponse().setComplete();
     }
 }
@@ -1,72 +1,304 @@
 // File: membership/gateway/src/main/java/com/telecom/membership/gateway/filter/RetryFilter.java
 package com.telecom.membership.gateway.filter;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.membership.common.dto.PointRequest;
 import com.telecom.membership.common.event.EventMessage;
+import com.telecom.membership.gateway.limiter.RetryBudget;
 import com.telecom.membership.gateway.service.EventGridService;
-import io.github.resilience4j.reactor.retry.RetryOperator;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+
+/**
+ * point-service 호출을 재시도합니다.
+ * <p>
+ * 재시도 대상 메소드의 요청 본문은 크기 한도 내에서 풀 버퍼에 한 번 모아 두고 시도마다 재사용합니다.
+ * 재시도는 {@link RetryBudget} 토큰이 있을 때만 수행하므로 업스트림 장애 시 부하를 증폭시키지 않습니다.
+ * 재시도가 소진되면 원본 요청을 담아 RetryExhausted 이벤트를 발행합니다.
+ */
+@Slf4j
 @Component
 public class RetryFilter extends AbstractGatewayFilterFactory<RetryFilter.Config> {
 
-    private final RetryRegistry retryRegistry;
     private final EventGridService eventGridService;
+    private final RetryBudget retryBudget;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
 
-    public RetryFilter(RetryRegistry retryRegistry, EventGridService eventGridService) {
+    public RetryFilter(EventGridService eventGridService,
+                       @Qualifier("retryBudget") RetryBudget retryBudget,
+                       ObjectMapper objectMapper,
+                       @Value("${retry.max-body-bytes:65536}") int maxBodyBytes) {
         super(Config.class);
-        this.retryRegistry = retryRegistry;
         this.eventGridService = eventGridService;
+        this.retryBudget = retryBudget;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
         return (exchange, chain) -> {
-            Retry retry = retryRegistry.retry("point-service");
-
-            return Mono.just(exchange)
-                    .transformDeferred(RetryOperator.of(retry))
-                    .flatMap(chain::filter)
-                    .onErrorResume(throwable -> {
-                        // 최대 재시도 후에도 실패하면 Event Grid로 발행
-                        EventMessage<Object> message = EventMessage.builder()
-                                .subject("point-service-retry-exhausted")
-                                .eventType("RetryExhausted")
-                                .data(exchange.getRequest().getBody())
-                                .build();
-
-                        return eventGridService.publishEvent(message)
-                                .then(Mono.fromRunnable(() -> {
-                                    exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
-                                    exchange.getResponse().getHeaders().add("X-Retry-Exhausted", "true");
-                                }))
-                                .then(exchange.getResponse().setComplete());
+            retryBudget.recordRequest();
+
+            ServerHttpRequest request = exchange.getRequest();
+            if (config.getRetries() <= 0 || !config.getMethods().contains(request.getMethod())) {
+                return chain.filter(exchange);
+            }
+            if (!hasBody(request)) {
+                return execute(exchange, chain, config, null, 1);
+            }
+            long contentLength = request.getHeaders().getContentLength();
+            if (contentLength < 0 || contentLength > maxBodyBytes) {
+                // 크기를 모르는(스트리밍) 본문이나 버퍼 한도를 넘는 본문은 재시도 없이 한 번만 전달
+                return chain.filter(exchange);
+            }
+
+            return DataBufferUtils.join(request.getBody(), maxBodyBytes)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(body -> body.isPresent()
+                            ? executeWithBody(exchange, chain, config, body.get())
+                            : execute(exchange, chain, config, null, 1))
+                    .onErrorResume(DataBufferLimitException.class, e -> {
+                        exchange.getResponse().setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+                        return exchange.getResponse().setComplete();
                     });
         };
     }
 
+    /**
+     * 모아 둔 본문을 시도마다 새 slice 로 돌려주는 요청으로 바꿔 실행하고, 끝나면 버퍼를 반환합니다.
+     */
+    private Mono<Void> executeWithBody(ServerWebExchange exchange, GatewayFilterChain chain,
+                                       Config config, DataBuffer body) {
+        ServerHttpRequest replayable = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(replay(body)));
+            }
+        };
+        ServerWebExchange replayableExchange = exchange.mutate().request(replayable).build();
+
+        return execute(replayableExchange, chain, config, body, 1)
+                .doFinally(signal -> DataBufferUtils.release(body));
+    }
+
+    /**
+     * 한 번 호출하고 결과(오류 또는 응답 상태)에 따라 재시도 여부를 결정합니다.
+     */
+    private Mono<Void> execute(ServerWebExchange exchange, GatewayFilterChain chain,
+                               Config config, DataBuffer body, int attempt) {
+        return Mono.defer(() -> chain.filter(exchange))
+                .then(Mono.<Throwable>empty())
+                .onErrorResume(Mono::just)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(error -> error.isPresent()
+                        ? onError(exchange, chain, config, body, attempt, error.get())
+                        : onResponse(exchange, chain, config, body, attempt));
+    }
+
+    private Mono<Void> onResponse(ServerWebExchange exchange, GatewayFilterChain chain,
+                                  Config config, DataBuffer body, int attempt) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status == null || !isRetryableStatus(config, status)) {
+            return Mono.empty();
+        }
+        if (canRetry(config, attempt)) {
+            return retry(exchange, chain, config, body, attempt, "status " + status.value());
+        }
+
+        // 업스트림 응답은 그대로 전달
+        log.warn("Retry exhausted after {} attempts for {} with status {}",
+                attempt, exchange.getRequest().getPath(), status.value());
+        exchange.getResponse().getHeaders().add("X-Retry-Exhausted", "true");
+        return publishExhausted(exchange, body, attempt, "status " + status.value());
+    }
+
+    private Mono<Void> onError(ServerWebExchange exchange, GatewayFilterChain chain,
+                               Config config, DataBuffer body, int attempt, Throwable error) {
+        if (isRetryableError(error) && canRetry(config, attempt)) {
+            return retry(exchange, chain, config, body, attempt, error.toString());
+        }
+
+        // 최대 재시도 후에도 실패하면 Event Grid로 발행
+        log.warn("Retry exhausted after {} attempts for {}: {}",
+                attempt, exchange.getRequest().getPath(), error.toString());
+        return publishExhausted(exchange, body, attempt, error.getMessage())
+                .then(Mono.fromRunnable(() -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                    exchange.getResponse().getHeaders().add("X-Retry-Exhausted", "true");
+                }))
+                .then(exchange.getResponse().setComplete());
+    }
+
+    private Mono<Void> retry(ServerWebExchange exchange, GatewayFilterChain chain,
+                             Config config, DataBuffer body, int attempt, String reason) {
+        Duration delay = backoff(config.getBackoff(), attempt);
+        log.debug("Retrying {} {} (attempt {}/{}) in {}ms: {}",
+                exchange.getRequest().getMethod(), exchange.getRequest().getPath(),
+                attempt + 1, config.getRetries() + 1, delay.toMillis(), reason);
+
+        reset(exchange);
+        return Mono.delay(delay)
+                .then(execute(exchange, chain, config, body, attempt + 1));
+    }
+
+    /**
+     * 재시도 횟수가 남아 있고 재시도 예산 토큰을 얻은 경우에만 재시도합니다.
+     */
+    private boolean canRetry(Config config, int attempt) {
+        return attempt <= config.getRetries() && retryBudget.tryWithdraw();
+    }
+
+    /**
+     * 이전 시도의 라우팅 상태를 지우고, 읽지 않은 업스트림 응답 연결은 닫습니다.
+     */
+    private void reset(ServerWebExchange exchange) {
+        Connection connection = exchange.getAttribute(CLIENT_RESPONSE_CONN_ATTR);
+        if (connection != null) {
+            connection.dispose();
+            exchange.getAttributes().remove(CLIENT_RESPONSE_CONN_ATTR);
+        }
+        ServerWebExchangeUtils.reset(exchange);
+    }
+
+    private Duration backoff(BackoffConfig backoff, int attempt) {
+        if (backoff == null || backoff.getFirstBackoff() == null) {
+            return Duration.ZERO;
+        }
+        long first = backoff.getFirstBackoff().toMillis();
+        long max = backoff.getMaxBackoff() != null ? backoff.getMaxBackoff().toMillis() : Long.MAX_VALUE;
+        double factor = Math.max(1, backoff.getFactor());
+        return Duration.ofMillis((long) Math.min(max, first * Math.pow(factor, attempt - 1)));
+    }
+
+    private boolean isRetryableStatus(Config config, HttpStatusCode status) {
+        return config.getStatuses().stream().anyMatch(s -> s.value() == status.value());
+    }
+
+    /**
+     * 연결 오류와 타임아웃만 재시도합니다. (게이트웨이가 ResponseStatusException 으로 감싸는 경우 포함)
+     */
+    private boolean isRetryableError(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof IOException || t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> publishExhausted(ServerWebExchange exchange, DataBuffer body, int attempts, String error) {
+        // 재처리할 원본 요청이 있는 경우에만 발행
+        JsonNode originalRequest = body != null ? readBody(body) : null;
+        if (originalRequest == null) {
+            return Mono.empty();
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        Map<String, Object> data = new HashMap<>();
+        data.put("timestamp", LocalDateTime.now().toString());
+        data.put("path", request.getPath().value());
+        data.put("method", request.getMethod().name());
+        data.put("partnerType", request.getHeaders().getFirst("X-Partner-Type"));
+        data.put("partnerId", request.getHeaders().getFirst("X-Partner-Id"));
+        data.put("attempts", attempts);
+        data.put("error", error);
+        data.put("originalRequest", originalRequest);
+        // 재처리 때 point-service 가 같은 키로 중복 적립을 막도록 함께 전달
+        data.put("idempotencyKey", request.getHeaders().getFirst(PointRequest.IDEMPOTENCY_KEY_HEADER));
+
+        EventMessage<Map<String, Object>> message = EventMessage.<Map<String, Object>>builder()
+                .subject("point-service-retry-exhausted")
+                .eventType("RetryExhausted")
+                .data(data)
+                .build();
+
+        return eventGridService.publishEvent(message)
+                .onErrorResume(e -> {
+                    log.error("Failed to queue RetryExhausted event", e);
+                    return Mono.empty();
+                });
+    }
+
+    private JsonNode readBody(DataBuffer body) {
+        try {
+            return objectMapper.readTree(replay(body).asInputStream(true));
+        } catch (IOException e) {
+            log.debug("Could not parse request body for RetryExhausted event: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean hasBody(ServerHttpRequest request) {
+        HttpMethod method = request.getMethod();
+        return (method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH)
+                && request.getHeaders().getContentLength() != 0;
+    }
+
+    /**
+     * 모아 둔 본문을 읽기 위치를 공유하지 않는 새 버퍼로 돌려줍니다.
+     * Netty 버퍼는 복사 없이 참조 카운트를 올린 slice 를 사용합니다.
+     */
+    private static DataBuffer replay(DataBuffer body) {
+        if (body instanceof NettyDataBuffer netty) {
+            return netty.factory().wrap(netty.getNativeBuffer().retainedSlice());
+        }
+        ByteBuffer copy = ByteBuffer.allocate(body.readableByteCount());
+        body.toByteBuffer(body.readPosition(), copy, 0, copy.capacity());
+        return DefaultDataBufferFactory.sharedInstance.wrap(copy);
+    }
+
+    @Data
     public static class Config {
-        private int retries;
-        private List<HttpStatus> statuses;
-        private List<HttpMethod> methods;
+        private int retries = 3;
+        private List<HttpStatus> statuses = List.of(HttpStatus.BAD_GATEWAY, HttpStatus.SERVICE_UNAVAILABLE);
+        private List<HttpMethod> methods = List.of(HttpMethod.GET);
         private BackoffConfig backoff;
-        // getters, setters ...
     }
 
+    @Data
     public static class BackoffConfig {
         private Duration firstBackoff;
         private Duration maxBackoff;
         private int factor;
+        // 고정 factor 에서는 이전 값 기준과 첫 값 기준 계산 결과가 같음
         private boolean basedOnPreviousValue;
-        // getters, setters ...
     }
 }
@@ -0,0 +1,183 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/AdaptiveConcurrencyLimiter.java
+package com.telecom.membership.gateway.limiter;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 측정된 업스트림 RTT를 기반으로 동시 처리 한도를 조정하는 gradient 방식 리미터입니다.
+ * <p>
+ * 최근 noLoadRttWindow 동안의 최소 RTT(무부하 RTT 추정치)와 단기 평균 RTT의 비율(gradient)로 한도를 조정합니다.
+ * 평균이 아닌 최소값을 쓰므로 부하가 이어져 큐잉 지연이 쌓여도 기준 RTT가 함께 올라가지 않습니다.
+ * 지연이 일정하면 큐 여유분(sqrt(limit))만큼 한도를 올리고, 단기 RTT가 늘어나 큐잉이 보이면
+ * gradient에 비례해 한도를 내립니다. 실패(5xx, 오류)는 backoffRatio로 즉시 크게 줄입니다.
+ * 한도는 minLimit 에서 시작해 측정값에 따라 늘어나며 항상 [minLimit, maxLimit] 범위로 제한됩니다.
+ */
+public class AdaptiveConcurrencyLimiter implements ConcurrencyLimiter {
+
+    @Getter
+    @Builder
+    public static class Options {
+        private final int minLimit;
+        private final int maxLimit;
+        /** 단기 RTT가 무부하 RTT의 몇 배까지 늘어나도 정상으로 볼지 */
+        @Builder.Default
+        private final double tolerance = 1.5;
+        /** 새 한도 반영 비율 */
+        @Builder.Default
+        private final double smoothing = 0.2;
+        /** 실패 시 한도 감소 비율 */
+        @Builder.Default
+        private final double backoffRatio = 0.9;
+        /** 단기 RTT 평균 윈도우(샘플 수) */
+        @Builder.Default
+        private final int shortWindow = 10;
+        /** 무부하 RTT(최소 RTT)를 구하는 기간. 직전 기간과 현재 기간 중 작은 값을 사용 */
+        @Builder.Default
+        private final Duration noLoadRttWindow = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    private final String name;
+    private final Options options;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final double shortAlpha;
+    private final long noLoadWindowNanos;
+
+    private volatile double estimatedLimit;
+    private double shortRttNanos;
+    private long minRttWindowStart;
+    private long currentMinRttNanos = Long.MAX_VALUE;
+    private long previousMinRttNanos = Long.MAX_VALUE;
+
+    public AdaptiveConcurrencyLimiter(String name, Options options) {
+        this.name = name;
+        this.options = options;
+        this.shortAlpha = 2.0 / (options.getShortWindow() + 1);
+        this.noLoadWindowNanos = options.getNoLoadRttWindow().toNanos();
+        this.minRttWindowStart = System.nanoTime();
+        // 하한에서 시작해 지연이 늘지 않는 동안 한도를 올림
+        this.estimatedLimit = options.getMinLimit();
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        while (true) {
+            int current = inFlight.get();
+            if (current + permits > getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + permits)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 정상 응답. 슬롯을 반환하고 RTT 샘플로 한도를 갱신합니다.
+     * 배치 요청(permits > 1)의 RTT 는 단건 요청과 비교할 수 없으므로 샘플로 쓰지 않습니다.
+     */
+    @Override
+    public void onSuccess(long rttNanos, int permits) {
+        int inFlightAtSample = inFlight.getAndAdd(-permits);
+        if (permits == 1) {
+            update(rttNanos, inFlightAtSample);
+        }
+    }
+
+    /**
+     * 실패(5xx, 연결 오류 등). 슬롯을 반환하고 한도를 즉시 줄입니다.
+     */
+    @Override
+    public synchronized void onDropped(int permits) {
+        inFlight.addAndGet(-permits);
+        estimatedLimit = clamp(estimatedLimit * options.getBackoffRatio());
+    }
+
+    @Override
+    public void onIgnore(int permits) {
+        inFlight.addAndGet(-permits);
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtSample) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        recordMinRtt(rttNanos);
+        if (shortRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            return;
+        }
+
+        shortRttNanos = shortRttNanos + shortAlpha * (rttNanos - shortRttNanos);
+        long noLoadRttNanos = noLoadRttNanos();
+
+        double limit = estimatedLimit;
+
+        double gradient = Math.max(0.5, Math.min(1.0, options.getTolerance() * noLoadRttNanos / shortRttNanos));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        newLimit = limit * (1 - options.getSmoothing()) + newLimit * options.getSmoothing();
+
+        // 한도의 절반도 쓰지 않는 상태에서는 한도를 올리지 않음 (줄이는 것은 사용량과 무관하게 적용)
+        if (newLimit > limit && inFlightAtSample < limit / 2) {
+            return;
+        }
+
+        estimatedLimit = clamp(newLimit);
+    }
+
+    /**
+     * 기간별 최소 RTT 를 갱신합니다. 기간이 지나면 현재 기간을 직전 기간으로 넘겨,
+     * 업스트림이 실제로 느려진 경우 최대 두 기간 뒤에는 기준 RTT 가 따라 올라갑니다.
+     */
+    private void recordMinRtt(long rttNanos) {
+        long now = System.nanoTime();
+        if (now - minRttWindowStart >= noLoadWindowNanos) {
+            previousMinRttNanos = now - minRttWindowStart >= 2 * noLoadWindowNanos
+                    ? Long.MAX_VALUE
+                    : currentMinRttNanos;
+            currentMinRttNanos = Long.MAX_VALUE;
+            minRttWindowStart = now;
+        }
+        currentMinRttNanos = Math.min(currentMinRttNanos, rttNanos);
+    }
+
+    private long noLoadRttNanos() {
+        return Math.min(currentMinRttNanos, previousMinRttNanos);
+    }
+
+    private double clamp(double limit) {
+        return Math.max(options.getMinLimit(), Math.min(options.getMaxLimit(), limit));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 무부하 RTT 추정치(ms)
+     */
+    public synchronized double getNoLoadRttMillis() {
+        long noLoadRttNanos = noLoadRttNanos();
+        return noLoadRttNanos == Long.MAX_VALUE ? 0 : (double) noLoadRttNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 단기 평균 RTT(ms)
+     */
+    public synchronized double getShortRttMillis() {
+        return shortRttNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,52 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/AdaptiveLimiterRegistry.java
+package com.telecom.membership.gateway.limiter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 파트너 타입별 {@link AdaptiveConcurrencyLimiter} 모음입니다.
+ * 등록되지 않은 파트너 타입은 default 리미터를 공유하므로 리미터 수가 늘어나지 않습니다.
+ */
+public class AdaptiveLimiterRegistry {
+
+    public static final String DEFAULT = "default";
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters;
+
+    public AdaptiveLimiterRegistry(Map<String, AdaptiveConcurrencyLimiter.Options> options,
+                                   MeterRegistry meterRegistry) {
+        this.limiters = options.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        e -> new AdaptiveConcurrencyLimiter(e.getKey(), e.getValue())));
+
+        limiters.values().forEach(limiter -> {
+            Gauge.builder("gateway.bulkhead.adaptive.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("partner", limiter.getName())
+                    .register(meterRegistry);
+            Gauge.builder("gateway.bulkhead.adaptive.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("partner", limiter.getName())
+                    .register(meterRegistry);
+            Gauge.builder("gateway.bulkhead.adaptive.rtt.noload", limiter, AdaptiveConcurrencyLimiter::getNoLoadRttMillis)
+                    .tag("partner", limiter.getName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("gateway.bulkhead.adaptive.rtt.short", limiter, AdaptiveConcurrencyLimiter::getShortRttMillis)
+                    .tag("partner", limiter.getName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * 파트너 타입에 해당하는 리미터를 반환합니다. 대소문자를 구분하지 않습니다.
+     */
+    public AdaptiveConcurrencyLimiter limiter(String partnerType) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(partnerType.toLowerCase());
+        return limiter != null ? limiter : limiters.get(DEFAULT);
+    }
+}
@@ -0,0 +1,51 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/ConcurrencyLimiter.java
+package com.telecom.membership.gateway.limiter;
+
+/**
+ * 파트너별 동시 처리 한도. 대기 없이 슬롯 점유 여부만 판단합니다.
+ * 배치 요청처럼 무게가 있는 요청은 항목 수만큼 슬롯(permits)을 점유합니다.
+ */
+public interface ConcurrencyLimiter {
+
+    String getName();
+
+    /**
+     * 한도 내라면 처리 슬롯을 permits 개 점유합니다.
+     */
+    boolean tryAcquire(int permits);
+
+    /**
+     * 정상 응답. 슬롯을 반환합니다.
+     */
+    void onSuccess(long rttNanos, int permits);
+
+    /**
+     * 실패(5xx, 연결 오류 등). 슬롯을 반환합니다.
+     */
+    void onDropped(int permits);
+
+    /**
+     * 취소 등 한도 판단에 쓰지 않을 결과. 슬롯만 반환합니다.
+     */
+    void onIgnore(int permits);
+
+    int getLimit();
+
+    int getInFlight();
+
+    default boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    default void onSuccess(long rttNanos) {
+        onSuccess(rttNanos, 1);
+    }
+
+    default void onDropped() {
+        onDropped(1);
+    }
+
+    default void onIgnore() {
+        onIgnore(1);
+    }
+}
@@ -0,0 +1,93 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/CountMinSketch.java
+package com.telecom.membership.gateway.limiter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 메모리로 키별 빈도를 근사하는 count-min sketch 입니다.
+ * 추정치는 실제 값 이상(과대 추정)이며 키 수와 무관하게 depth * width 개의 카운터만 사용합니다.
+ */
+public class CountMinSketch {
+
+    private static final int MAX_DEPTH = 8;
+    private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final int depth;
+    private final int widthMask;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param depth 해시 함수 수 (최대 8)
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("depth must be between 1 and " + MAX_DEPTH);
+        }
+        int size = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.depth = depth;
+        this.widthMask = size - 1;
+        this.counters = new AtomicLongArray(depth * size);
+    }
+
+    /**
+     * 키의 빈도를 더하고, 더한 뒤의 추정치를 반환합니다.
+     */
+    public long add(String key, long count) {
+        long h1 = hash(key, SEED_1);
+        long h2 = hash(key, SEED_2) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long value = counters.addAndGet(index(row, h1, h2), count);
+            estimate = Math.min(estimate, value);
+        }
+        return estimate;
+    }
+
+    public long estimate(String key) {
+        long h1 = hash(key, SEED_1);
+        long h2 = hash(key, SEED_2) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    /**
+     * 행별 위치는 독립적인 두 해시의 조합(h1 + row * h2, double hashing)으로 정합니다.
+     * 한 행에서 충돌한 키가 다른 행에서도 충돌하지 않도록 String.hashCode() 를 쓰지 않습니다.
+     */
+    private int index(int row, long h1, long h2) {
+        long h = h1 + row * h2;
+        return row * (widthMask + 1) + (int) ((h ^ (h >>> 32)) & widthMask);
+    }
+
+    /**
+     * 문자 단위 seed 해시 (murmur3 finalizer 로 섞음)
+     */
+    private static long hash(String key, long seed) {
+        long h = seed ^ key.length();
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x5BD1E9955BD1E995L;
+            h ^= h >>> 47;
+        }
+        return fmix64(h);
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,322 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/FairAdmissionScheduler.java
+package com.telecom.membership.gateway.limiter;
+
+import com.telecom.membership.common.exception.PointException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 파트너 타입별 대기열을 두고 공유 업스트림 용량을 가중치 기반 DRR(Deficit Round Robin)로
+ * 배분하는 논블로킹 입장 스케줄러입니다.
+ * <p>
+ * 용량이 없으면 요청은 스레드를 점유하지 않고 파트너별 제한된 대기열에 들어가며,
+ * 파트너의 maxWaitDuration 안에 입장하지 못하면 거부됩니다.
+ * 입장 시에는 공유 용량과 파트너 자체 한도({@link ConcurrencyLimiter})를 모두 만족해야 합니다.
+ * 배치 요청은 비용(항목 수)만큼 용량과 deficit 을 사용하며, 비용은 공유 용량과 파트너 한도를 넘지 않도록 줄여 적용합니다.
+ */
+@Slf4j
+public class FairAdmissionScheduler {
+
+    @Getter
+    @Builder
+    public static class PartnerOptions {
+        private final ConcurrencyLimiter limiter;
+        /** DRR 라운드당 quantum */
+        private final int weight;
+        private final int queueCapacity;
+        private final Duration maxWait;
+    }
+
+    private final int capacity;
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final List<PartnerQueue> queues;
+    private final Map<String, PartnerQueue> queuesByName;
+    private final PartnerQueue defaultQueue;
+    private int roundRobinIndex;
+
+    public FairAdmissionScheduler(int capacity,
+                                  Map<String, PartnerOptions> partners,
+                                  String defaultPartner,
+                                  MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.queues = partners.entrySet().stream()
+                .map(e -> new PartnerQueue(e.getKey(), e.getValue(), meterRegistry))
+                .toList();
+        this.queuesByName = queues.stream()
+                .collect(Collectors.toUnmodifiableMap(q -> q.name, Function.identity()));
+        this.defaultQueue = queuesByName.get(defaultPartner);
+
+        Gauge.builder("gateway.admission.inuse", inUse, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("gateway.admission.capacity", () -> capacity)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입장 허가를 요청합니다. 즉시 입장할 수 없으면 대기열에서 기다리며 스레드를 막지 않습니다.
+     * 허가를 받은 쪽은 처리 후 반드시 {@link Permit}의 완료 메서드 중 하나를 호출해야 합니다.
+     */
+    public Mono<Permit> acquire(String partnerType) {
+        return acquire(partnerType, 1);
+    }
+
+    /**
+     * 비용(항목 수)이 있는 요청의 입장 허가를 요청합니다.
+     */
+    public Mono<Permit> acquire(String partnerType, int cost) {
+        PartnerQueue queue = queuesByName.getOrDefault(partnerType.toLowerCase(), defaultQueue);
+
+        return Mono.<Permit>create(sink -> {
+            if (queue.size.incrementAndGet() > queue.options.getQueueCapacity()) {
+                queue.size.decrementAndGet();
+                queue.rejectedQueueFull.increment();
+                sink.error(new PointException.BulkheadFullException(
+                        "Admission queue full for partner type: " + queue.name));
+                return;
+            }
+
+            Waiter waiter = new Waiter(queue, sink, Math.max(1, cost));
+            queue.waiters.offer(waiter);
+            waiter.timeout = Schedulers.parallel().schedule(
+                    waiter::expire, queue.options.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+            sink.onCancel(waiter::cancel);
+
+            drain();
+        })
+                // 입장 직후 구독이 취소되어 전달되지 못한 허가는 바로 반환
+                .doOnDiscard(Permit.class, Permit::onIgnore);
+    }
+
+    /**
+     * 대기열 배출. 여러 스레드에서 호출되어도 한 번에 한 스레드만 배출을 수행합니다.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            drainRounds();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainRounds() {
+        boolean progress = true;
+        while (progress && inUse.get() < capacity) {
+            progress = false;
+            int count = queues.size();
+            for (int i = 0; i < count && inUse.get() < capacity; i++) {
+                PartnerQueue queue = queues.get((roundRobinIndex + i) % count);
+                if (serve(queue)) {
+                    progress = true;
+                }
+            }
+            roundRobinIndex = (roundRobinIndex + 1) % count;
+        }
+    }
+
+    /**
+     * 한 파트너 대기열에 quantum만큼 deficit을 주고, deficit이 남는 동안 입장시킵니다.
+     *
+     * @return 입장시켰거나, 선두 요청이 deficit 이 쌓이기를 기다리는 중이면 true (다음 라운드 필요)
+     */
+    private boolean serve(PartnerQueue queue) {
+        queue.purgeCompleted();
+        if (queue.waiters.isEmpty()) {
+            queue.deficit = 0;
+            return false;
+        }
+
+        boolean admitted = false;
+        ConcurrencyLimiter limiter = queue.options.getLimiter();
+        queue.deficit += queue.options.getWeight();
+        while (inUse.get() < capacity) {
+            Waiter waiter = queue.waiters.peek();
+            if (waiter == null) {
+                queue.deficit = 0;
+                break;
+            }
+            if (waiter.done.get()) {
+                queue.waiters.poll();
+                continue;
+            }
+
+            int cost = Math.min(waiter.cost, Math.min(capacity, Math.max(1, limiter.getLimit())));
+            if (queue.deficit < cost) {
+                // 다음 라운드에서 deficit 이 더 쌓이면 입장
+                return true;
+            }
+            if (inUse.get() + cost > capacity || !limiter.tryAcquire(cost)) {
+                // 용량/파트너 한도에 걸린 경우 deficit을 쌓아두지 않음
+                queue.deficit = Math.min(queue.deficit, Math.max(queue.options.getWeight(), cost));
+                break;
+            }
+
+            queue.waiters.poll();
+            inUse.addAndGet(cost);
+            if (waiter.grant(cost)) {
+                queue.deficit -= cost;
+                admitted = true;
+            } else {
+                // 타임아웃/취소와 경합한 경우 점유를 되돌림
+                limiter.onIgnore(cost);
+                inUse.addAndGet(-cost);
+            }
+        }
+        return admitted;
+    }
+
+    /**
+     * 입장 허가. 처리 결과에 맞는 완료 메서드를 한 번 호출하면 슬롯이 반환됩니다.
+     */
+    public class Permit {
+        private final PartnerQueue queue;
+        private final int cost;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(PartnerQueue queue, int cost) {
+            this.queue = queue;
+            this.cost = cost;
+        }
+
+        public String getPartner() {
+            return queue.name;
+        }
+
+        public void onSuccess(long rttNanos) {
+            if (released.compareAndSet(false, true)) {
+                queue.options.getLimiter().onSuccess(rttNanos, cost);
+                release();
+            }
+        }
+
+        public void onDropped() {
+            if (released.compareAndSet(false, true)) {
+                queue.options.getLimiter().onDropped(cost);
+                release();
+            }
+        }
+
+        public void onIgnore() {
+            if (released.compareAndSet(false, true)) {
+                queue.options.getLimiter().onIgnore(cost);
+                release();
+            }
+        }
+
+        private void release() {
+            inUse.addAndGet(-cost);
+            drain();
+        }
+    }
+
+    private class Waiter {
+        private final PartnerQueue queue;
+        private final MonoSink<Permit> sink;
+        private final int cost;
+        private final long enqueuedAt = System.nanoTime();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile Disposable timeout;
+
+        private Waiter(PartnerQueue queue, MonoSink<Permit> sink, int cost) {
+            this.queue = queue;
+            this.sink = sink;
+            this.cost = cost;
+        }
+
+        private boolean grant(int grantedCost) {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            queue.size.decrementAndGet();
+            disposeTimeout();
+            queue.waitTime.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            sink.success(new Permit(queue, grantedCost));
+            return true;
+        }
+
+        private void expire() {
+            if (done.compareAndSet(false, true)) {
+                queue.size.decrementAndGet();
+                queue.rejectedTimeout.increment();
+                sink.error(new PointException.BulkheadFullException(
+                        "Admission wait timed out for partner type: " + queue.name));
+            }
+        }
+
+        private void cancel() {
+            if (done.compareAndSet(false, true)) {
+                queue.size.decrementAndGet();
+                disposeTimeout();
+            }
+        }
+
+        private void disposeTimeout() {
+            Disposable task = timeout;
+            if (task != null) {
+                task.dispose();
+            }
+        }
+    }
+
+    private static class PartnerQueue {
+        private final String name;
+        private final PartnerOptions options;
+        private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+        /** 아직 처리되지 않은(입장/만료/취소 전) 대기 요청 수 */
+        private final AtomicInteger size = new AtomicInteger();
+        /** drain 스레드에서만 접근 */
+        private long deficit;
+
+        private final Counter rejectedQueueFull;
+        private final Counter rejectedTimeout;
+        private final Timer waitTime;
+
+        private PartnerQueue(String name, PartnerOptions options, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.options = options;
+
+            Gauge.builder("gateway.admission.queue.depth", size, AtomicInteger::get)
+                    .tag("partner", name)
+                    .register(meterRegistry);
+            this.rejectedQueueFull = Counter.builder("gateway.admission.rejected")
+                    .tag("partner", name).tag("reason", "queue_full")
+                    .register(meterRegistry);
+            this.rejectedTimeout = Counter.builder("gateway.admission.rejected")
+                    .tag("partner", name).tag("reason", "timeout")
+                    .register(meterRegistry);
+            this.waitTime = Timer.builder("gateway.admission.wait")
+                    .tag("partner", name)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+
+        private void purgeCompleted() {
+            Waiter head;
+            while ((head = waiters.peek()) != null && head.done.get()) {
+                waiters.poll();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/FixedConcurrencyLimiter.java
+package com.telecom.membership.gateway.limiter;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 설정값으로 고정된 동시 처리 한도 (bulkhead.mode=static)
+ */
+public class FixedConcurrencyLimiter implements ConcurrencyLimiter {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public FixedConcurrencyLimiter(String name, int limit) {
+        this.name = name;
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        while (true) {
+            int current = inFlight.get();
+            if (current + permits > limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + permits)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void onSuccess(long rttNanos, int permits) {
+        inFlight.addAndGet(-permits);
+    }
+
+    @Override
+    public void onDropped(int permits) {
+        inFlight.addAndGet(-permits);
+    }
+
+    @Override
+    public void onIgnore(int permits) {
+        inFlight.addAndGet(-permits);
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
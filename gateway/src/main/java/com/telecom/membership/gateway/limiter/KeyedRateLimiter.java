@@ -0,0 +1,133 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/KeyedRateLimiter.java
+package com.telecom.membership.gateway.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * partnerId, memberId 처럼 키 수가 많은 대상의 처리율 제한기입니다.
+ * <p>
+ * 키마다 RateLimiter 객체를 두지 않고 두 단계로 판단합니다.
+ * <ol>
+ *     <li>count-min sketch로 윈도우당 요청 수를 근사해 임계값을 넘는 heavy hitter는 바로 거부</li>
+ *     <li>메모리 한도 내에서 키별 토큰 버킷({@link KeyedTokenBucketTable})으로 정밀 제한</li>
+ * </ol>
+ * 테이블이 가득 차 새 키를 추적할 수 없을 때도 sketch가 남용 키를 걸러냅니다.
+ */
+@Slf4j
+public class KeyedRateLimiter implements DisposableBean {
+
+    public enum Decision {
+        ALLOWED,
+        THROTTLED,
+        HEAVY_HITTER
+    }
+
+    @Getter
+    @Builder
+    public static class Options {
+        private final String scope;
+        private final double ratePerSecond;
+        private final int burst;
+        private final int maxKeys;
+        @Builder.Default
+        private final int stripes = 64;
+        @Builder.Default
+        private final Duration idleTimeout = Duration.ofMinutes(5);
+        /** sketch 윈도우 */
+        @Builder.Default
+        private final Duration window = Duration.ofSeconds(10);
+        /** 윈도우당 이 값을 넘는 키는 heavy hitter로 판단 */
+        private final long heavyHitterThreshold;
+        @Builder.Default
+        private final int sketchDepth = 4;
+        @Builder.Default
+        private final int sketchWidth = 16_384;
+    }
+
+    private final Options options;
+    private final KeyedTokenBucketTable table;
+    private volatile CountMinSketch current;
+    private volatile CountMinSketch standby;
+    private final Disposable maintenance;
+
+    private final Counter throttled;
+    private final Counter heavyHitters;
+    private final Counter untracked;
+
+    public KeyedRateLimiter(Options options, MeterRegistry meterRegistry) {
+        this.options = options;
+        this.table = new KeyedTokenBucketTable(options.getRatePerSecond(), options.getBurst(),
+                options.getMaxKeys(), options.getStripes(), options.getIdleTimeout().toNanos());
+        this.current = new CountMinSketch(options.getSketchDepth(), options.getSketchWidth());
+        this.standby = new CountMinSketch(options.getSketchDepth(), options.getSketchWidth());
+
+        String scope = options.getScope();
+        Gauge.builder("gateway.ratelimit.keys", table, KeyedTokenBucketTable::size)
+                .tag("scope", scope)
+                .register(meterRegistry);
+        this.throttled = Counter.builder("gateway.ratelimit.rejected")
+                .tag("scope", scope).tag("reason", "bucket")
+                .register(meterRegistry);
+        this.heavyHitters = Counter.builder("gateway.ratelimit.rejected")
+                .tag("scope", scope).tag("reason", "heavy_hitter")
+                .register(meterRegistry);
+        this.untracked = Counter.builder("gateway.ratelimit.untracked")
+                .tag("scope", scope)
+                .register(meterRegistry);
+
+        long windowMillis = options.getWindow().toMillis();
+        this.maintenance = Schedulers.parallel().schedulePeriodically(
+                this::rotate, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Decision tryAcquire(String key, int permits) {
+        long estimate = current.add(key, permits);
+        if (estimate > options.getHeavyHitterThreshold()) {
+            heavyHitters.increment();
+            return Decision.HEAVY_HITTER;
+        }
+
+        return switch (table.tryAcquire(key, permits)) {
+            case ALLOWED -> Decision.ALLOWED;
+            case THROTTLED -> {
+                throttled.increment();
+                yield Decision.THROTTLED;
+            }
+            case UNTRACKED -> {
+                untracked.increment();
+                yield Decision.ALLOWED;
+            }
+        };
+    }
+
+    /**
+     * sketch 윈도우를 교체하고 유휴 버킷을 정리합니다.
+     */
+    private void rotate() {
+        CountMinSketch next = standby;
+        next.clear();
+        standby = current;
+        current = next;
+
+        int evicted = table.evictIdle();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle {} rate limit buckets", evicted, options.getScope());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        maintenance.dispose();
+    }
+}
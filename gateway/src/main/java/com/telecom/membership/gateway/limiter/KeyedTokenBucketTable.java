@@ -0,0 +1,117 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/KeyedTokenBucketTable.java
+package com.telecom.membership.gateway.limiter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷을 스트라이프로 나누어 보관하는 테이블입니다.
+ * <p>
+ * 버킷은 GCRA(theoretical arrival time) 방식으로 long 하나만 CAS로 갱신하므로 락이 없습니다.
+ * 전체 키 수는 maxKeys로 제한되며, 한도에 도달하면 새 키는 추적하지 않고 {@link Result#UNTRACKED}를 반환합니다.
+ * 일정 시간 사용되지 않은 버킷(이미 가득 찬 상태)은 {@link #evictIdle()}에서 제거합니다.
+ */
+public class KeyedTokenBucketTable {
+
+    public enum Result {
+        ALLOWED,
+        THROTTLED,
+        /** 메모리 한도로 버킷을 만들지 못함 */
+        UNTRACKED
+    }
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int maxKeysPerStripe;
+    private final long emissionIntervalNanos;
+    private final int burst;
+    private final long burstNanos;
+    private final long idleNanos;
+
+    /**
+     * @param ratePerSecond 키당 초당 허용 요청 수
+     * @param burst         순간 허용 요청 수 (버킷 크기)
+     * @param maxKeys       추적할 최대 키 수
+     * @param idleNanos     이 시간 이상 가득 찬 상태로 유지된 버킷은 제거
+     */
+    public KeyedTokenBucketTable(double ratePerSecond, int burst, int maxKeys, int stripeCount, long idleNanos) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = count - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / count);
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burst = Math.max(1, burst);
+        this.burstNanos = emissionIntervalNanos * this.burst;
+        this.idleNanos = idleNanos;
+    }
+
+    public Result tryAcquire(String key, int permits) {
+        long now = System.nanoTime();
+        Stripe stripe = stripes[spread(key.hashCode()) & stripeMask];
+
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            if (stripe.size.get() >= maxKeysPerStripe) {
+                return Result.UNTRACKED;
+            }
+            bucket = stripe.buckets.computeIfAbsent(key, k -> {
+                stripe.size.incrementAndGet();
+                return new AtomicLong(now);
+            });
+        }
+
+        // 버킷 크기보다 무거운 요청은 버킷 전체를 사용 (영구 거부 방지)
+        long cost = emissionIntervalNanos * Math.min(Math.max(1, permits), burst);
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + cost;
+            if (newTat - now > burstNanos) {
+                return Result.THROTTLED;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return Result.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * idleNanos 이상 가득 찬 상태인 버킷을 제거합니다. 가득 찬 버킷은 제거해도 동작이 같습니다.
+     *
+     * @return 제거한 버킷 수
+     */
+    public int evictIdle() {
+        long threshold = System.nanoTime() - idleNanos;
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            for (var entry : stripe.buckets.entrySet()) {
+                if (entry.getValue().get() - threshold < 0
+                        && stripe.buckets.remove(entry.getKey(), entry.getValue())) {
+                    stripe.size.decrementAndGet();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size.get();
+        }
+        return size;
+    }
+
+    private static int spread(int h) {
+        return (h ^ (h >>> 16)) & 0x7fffffff;
+    }
+
+    private static class Stripe {
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
@@ -0,0 +1,100 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/LatencyPercentileTracker.java
+package com.telecom.membership.gateway.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 응답 시간 분포를 로그 스케일 히스토그램으로 유지하고 분위수를 계산합니다.
+ * <p>
+ * 버킷 경계는 0.1ms 부터 10%씩 증가하므로 분위수 오차는 10% 이내입니다.
+ * 현재 윈도우와 직전 윈도우만 합산하므로 오래된 지연은 최대 두 윈도우 뒤 반영되지 않습니다.
+ */
+public class LatencyPercentileTracker {
+
+    private static final double BASE_MICROS = 100;
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final int BUCKETS = 160;
+
+    private final long windowNanos;
+    private final long minSamples;
+    private volatile Window current;
+    private volatile Window previous;
+
+    public LatencyPercentileTracker(Duration window, long minSamples) {
+        this.windowNanos = window.toNanos();
+        this.minSamples = minSamples;
+        this.current = new Window(System.nanoTime());
+        this.previous = new Window(System.nanoTime());
+    }
+
+    public void record(long nanos) {
+        rotateIfNeeded();
+        Window window = current;
+        window.counts.incrementAndGet(bucket(nanos));
+        window.total.incrementAndGet();
+    }
+
+    /**
+     * 분위수(0~1)에 해당하는 응답 시간. 샘플이 minSamples 보다 적으면 null 을 반환합니다.
+     */
+    public Duration percentile(double quantile) {
+        rotateIfNeeded();
+        Window a = current;
+        Window b = previous;
+        long total = a.total.get() + b.total.get();
+        if (total < minSamples || total == 0) {
+            return null;
+        }
+
+        long target = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += a.counts.get(i) + b.counts.get(i);
+            if (cumulative >= target) {
+                return Duration.ofNanos(upperBoundNanos(i));
+            }
+        }
+        return Duration.ofNanos(upperBoundNanos(BUCKETS - 1));
+    }
+
+    private void rotateIfNeeded() {
+        Window window = current;
+        long now = System.nanoTime();
+        if (now - window.start < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (current == window) {
+                previous = window;
+                current = new Window(now);
+            }
+        }
+    }
+
+    private static int bucket(long nanos) {
+        double micros = (double) nanos / TimeUnit.MICROSECONDS.toNanos(1);
+        if (micros <= BASE_MICROS) {
+            return 0;
+        }
+        int index = (int) Math.ceil(Math.log(micros / BASE_MICROS) / LOG_GROWTH);
+        return Math.min(index, BUCKETS - 1);
+    }
+
+    private static long upperBoundNanos(int bucket) {
+        return (long) (BASE_MICROS * Math.pow(GROWTH, bucket) * TimeUnit.MICROSECONDS.toNanos(1));
+    }
+
+    private static class Window {
+        private final long start;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong total = new AtomicLong();
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
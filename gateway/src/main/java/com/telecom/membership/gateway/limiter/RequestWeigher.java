@@ -0,0 +1,117 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/RequestWeigher.java
+package com.telecom.membership.gateway.limiter;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * 요청의 무게(처리율 제한/벌크헤드에서 사용할 permit 수)를 계산합니다.
+ * <p>
+ * 배치 API 는 입장 시 X-Item-Count 헤더와 Content-Length 로 추정한 항목 수 중 큰 값을 chunk 까지만 먼저 매기고,
+ * 나머지는 {@link #meter(ServerHttpRequest, int, IntFunction)} 로 본문을 읽으면서 읽은 바이트로 추정한 항목 수만큼
+ * chunk 단위로 추가로 매깁니다. 따라서 Content-Length 없는(chunked) 업로드도 받으며 배치 크기에 상한을 두지 않습니다.
+ * 그 외 요청의 무게는 1 입니다.
+ */
+public class RequestWeigher {
+
+    public static final String ITEM_COUNT_HEADER = "X-Item-Count";
+
+    private final Set<String> weightedPaths;
+    private final int averageItemBytes;
+    private final int chunkWeight;
+
+    public RequestWeigher(Set<String> weightedPaths, int averageItemBytes, int chunkWeight) {
+        this.weightedPaths = weightedPaths;
+        this.averageItemBytes = Math.max(1, averageItemBytes);
+        this.chunkWeight = Math.max(1, chunkWeight);
+    }
+
+    /**
+     * 입장 시 매길 무게. 배치 요청은 추정 항목 수이되 chunk 를 넘지 않습니다.
+     */
+    public int weigh(ServerHttpRequest request) {
+        if (!weightedPaths.contains(request.getPath().value())) {
+            return 1;
+        }
+        return (int) Math.min(chunkWeight, itemCount(request));
+    }
+
+    /**
+     * 배치 요청의 본문을 읽으면서 prepaid 를 넘는 무게를 charge 로 매기는 요청을 돌려줍니다. 그 외 요청은 그대로 돌려줍니다.
+     * <p>
+     * charge 는 chunk 이하의 무게로 여러 번 호출되며, 완료될 때까지 다음 본문 조각을 넘기지 않으므로 permit 을 기다리는 동안
+     * 업로드가 멈춥니다. charge 가 실패하면 본문 읽기가 그 오류로 실패합니다.
+     */
+    public ServerHttpRequest meter(ServerHttpRequest request, int prepaid, IntFunction<Mono<Void>> charge) {
+        if (!weightedPaths.contains(request.getPath().value())) {
+            return request;
+        }
+        return new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> {
+                    BodyMeter meter = new BodyMeter(prepaid);
+                    return getDelegate().getBody()
+                            .concatMap(buffer -> meter.read(buffer, charge));
+                });
+            }
+        };
+    }
+
+    private long itemCount(ServerHttpRequest request) {
+        long declared = parseItemCount(request.getHeaders().getFirst(ITEM_COUNT_HEADER));
+        long contentLength = request.getHeaders().getContentLength();
+        long estimated = contentLength > 0 ? items(contentLength) : 0;
+        return Math.max(1, Math.max(declared, estimated));
+    }
+
+    private long items(long bytes) {
+        return (bytes + averageItemBytes - 1) / averageItemBytes;
+    }
+
+    private static long parseItemCount(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 한 번의 본문 구독에서 읽은 바이트와 매긴 무게 (concatMap 안에서만 접근)
+     */
+    private final class BodyMeter {
+        private long bytes;
+        private long charged;
+
+        private BodyMeter(int prepaid) {
+            this.charged = prepaid;
+        }
+
+        private Mono<DataBuffer> read(DataBuffer buffer, IntFunction<Mono<Void>> charge) {
+            bytes += buffer.readableByteCount();
+            long owed = items(bytes) - charged;
+            if (owed <= 0) {
+                return Mono.just(buffer);
+            }
+            // chunk 단위로 미리 매겨 조각마다 limiter 를 호출하지 않도록 함
+            long chunks = (owed + chunkWeight - 1) / chunkWeight;
+            charged += chunks * chunkWeight;
+            return Flux.range(0, (int) Math.min(Integer.MAX_VALUE, chunks))
+                    .concatMap(i -> charge.apply(chunkWeight))
+                    .then(Mono.just(buffer))
+                    .doOnError(e -> DataBufferUtils.release(buffer))
+                    .doOnCancel(() -> DataBufferUtils.release(buffer));
+        }
+    }
+}
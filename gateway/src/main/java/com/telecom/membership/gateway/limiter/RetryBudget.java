@@ -0,0 +1,123 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/limiter/RetryBudget.java
+package com.telecom.membership.gateway.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 횟수를 실제 트래픽의 일정 비율로 제한하는 토큰 버킷입니다.
+ * <p>
+ * 요청마다 ratio 만큼 토큰이 쌓이고 재시도 한 번에 토큰 1개를 씁니다.
+ * 트래픽이 적을 때도 최소한의 재시도는 가능하도록 초당 minPerSecond 만큼 토큰을 채웁니다.
+ * 업스트림이 전반적으로 실패하는 상황에서는 토큰이 바닥나 재시도가 부하를 증폭시키지 않습니다.
+ */
+public class RetryBudget {
+
+    // 소수 토큰을 정수로 다루기 위한 배율
+    private static final long SCALE = 1000;
+    private static final long REFILL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Getter
+    @Builder
+    public static class Options {
+        private final String name;
+        /** 요청 1건당 적립되는 재시도 토큰 (0.2 = 요청의 20%까지 재시도) */
+        @Builder.Default
+        private final double ratio = 0.2;
+        /** 트래픽과 무관하게 초당 보장되는 재시도 수 */
+        @Builder.Default
+        private final double minPerSecond = 5;
+        /** 적립 가능한 최대 토큰 수 */
+        @Builder.Default
+        private final int maxTokens = 100;
+    }
+
+    @Getter
+    private final String name;
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final double refillPerNano;
+    private final AtomicLong balance;
+    private final AtomicLong lastRefill = new AtomicLong(System.nanoTime());
+
+    private final Counter withdrawn;
+    private final Counter exhausted;
+
+    public RetryBudget(Options options, MeterRegistry meterRegistry) {
+        this.name = options.getName();
+        this.depositPerRequest = Math.round(options.getRatio() * SCALE);
+        this.maxBalance = (long) options.getMaxTokens() * SCALE;
+        this.refillPerNano = options.getMinPerSecond() * SCALE / TimeUnit.SECONDS.toNanos(1);
+        this.balance = new AtomicLong(maxBalance);
+
+        Gauge.builder("gateway.retry.budget.balance", this, RetryBudget::getAvailableTokens)
+                .tag("budget", name)
+                .register(meterRegistry);
+        this.withdrawn = Counter.builder("gateway.retry.budget.withdrawn")
+                .tag("budget", name)
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("gateway.retry.budget.exhausted")
+                .tag("budget", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원 요청 1건을 기록하고 재시도 토큰을 적립합니다.
+     */
+    public void recordRequest() {
+        deposit(depositPerRequest);
+    }
+
+    /**
+     * 재시도 토큰 1개를 사용합니다. 토큰이 없으면 false 를 반환하며 재시도하지 않아야 합니다.
+     */
+    public boolean tryWithdraw() {
+        refill();
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                exhausted.increment();
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                withdrawn.increment();
+                return true;
+            }
+        }
+    }
+
+    public double getAvailableTokens() {
+        return (double) balance.get() / SCALE;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long last = lastRefill.get();
+        long elapsed = now - last;
+        if (elapsed < REFILL_INTERVAL_NANOS || !lastRefill.compareAndSet(last, now)) {
+            return;
+        }
+        deposit((long) (elapsed * refillPerNano));
+    }
+
+    private void deposit(long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        while (true) {
+            long current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+            if (balance.compareAndSet(current, Math.min(maxBalance, current + amount))) {
+                return;
+            }
+        }
+    }
+}
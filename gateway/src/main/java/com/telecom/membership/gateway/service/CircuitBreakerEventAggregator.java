@@ -0,0 +1,263 @@
+// File: membership/gateway/src/main/java/com/telecom/membership/gateway/service/CircuitBreakerEventAggregator.java
+package com.telecom.membership.gateway.service;
+
+import com.telecom.membership.common.event.EventMessage;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnStateTransitionEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Circuit Breaker 관련 이벤트를 모아서 발행합니다.
+ * <p>
+ * 상태 전이(CLOSED→OPEN, OPEN→HALF_OPEN 등)는 즉시 발행하고,
+ * 요청 단위 실패는 윈도우 동안 경로/메소드/파트너 타입별 건수와 제한된 개수의 샘플로
+ * 접어서 윈도우마다 한 건의 요약 이벤트로 발행합니다.
+ * 재처리가 필요한 요청(서킷 오픈으로 거부된 POST 본문)은 샘플 한도와 관계없이 버리지 않고,
+ * max-replay-batch 건 또는 max-replay-batch-bytes 크기까지 모아 별도의 재처리 이벤트로 발행합니다.
+ * 한도에 닿으면 윈도우를 기다리지 않고 바로 발행합니다.
+ */
+@Slf4j
+@Service
+public class CircuitBreakerEventAggregator {
+
+    public static final String EVENT_OPENED = "CircuitBreakerOpened";
+    public static final String EVENT_STATE_CHANGED = "CircuitBreakerStateChanged";
+    public static final String EVENT_FAILURE_SUMMARY = "CircuitBreakerFailureSummary";
+    public static final String EVENT_REPLAY_BATCH = "CircuitBreakerReplayBatch";
+
+    private static final String OTHER = "OTHER";
+    // 재처리 요청 한 건에서 본문 외 필드(경로, 헤더 값, 오류 메시지 등)가 차지하는 대략의 크기
+    private static final int REPLAY_ENTRY_OVERHEAD_BYTES = 512;
+
+    private final EventGridService eventGridService;
+    private final int maxKeys;
+    private final int maxSamples;
+    private final int maxReplayBatch;
+    private final int maxReplayBatchBytes;
+
+    private final Set<String> registeredBreakers = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock windowLock = new ReentrantReadWriteLock();
+    private volatile Window current = new Window();
+    private final Object replayLock = new Object();
+    private List<Map<String, Object>> pendingReplays = new ArrayList<>();
+    private int pendingReplayBytes;
+
+    public CircuitBreakerEventAggregator(
+            EventGridService eventGridService,
+            @Value("${circuitbreaker.events.max-keys:1000}") int maxKeys,
+            @Value("${circuitbreaker.events.max-samples:100}") int maxSamples,
+            @Value("${circuitbreaker.events.max-replay-batch:100}") int maxReplayBatch,
+            @Value("${circuitbreaker.events.max-replay-batch-bytes:262144}") int maxReplayBatchBytes) {
+        this.eventGridService = eventGridService;
+        this.maxKeys = maxKeys;
+        this.maxSamples = maxSamples;
+        this.maxReplayBatch = maxReplayBatch;
+        this.maxReplayBatchBytes = maxReplayBatchBytes;
+    }
+
+    /**
+     * Circuit Breaker 상태 전이를 구독합니다. 같은 이름의 Circuit Breaker는 한 번만 등록됩니다.
+     */
+    public void register(CircuitBreaker circuitBreaker) {
+        if (registeredBreakers.add(circuitBreaker.getName())) {
+            circuitBreaker.getEventPublisher()
+                    .onStateTransition(event -> publishTransition(circuitBreaker, event));
+        }
+    }
+
+    /**
+     * 현재 윈도우에 샘플을 더 담을 수 있는지 확인합니다.
+     * 요청 본문을 읽는 비용을 샘플이 필요할 때만 치르기 위해 사용합니다.
+     */
+    public boolean hasSampleCapacity() {
+        return current.sampleCount.get() < maxSamples;
+    }
+
+    /**
+     * 요청 단위 실패를 현재 윈도우에 기록합니다.
+     *
+     * @param sample 샘플 데이터 (null 이면 건수만 기록)
+     */
+    public void recordFailure(String path, String method, String partnerType, Map<String, Object> sample) {
+        windowLock.readLock().lock();
+        try {
+            Window window = current;
+            window.total.increment();
+
+            FailureKey key = new FailureKey(path, method, partnerType);
+            LongAdder counter = window.counts.get(key);
+            if (counter == null) {
+                if (window.counts.size() >= maxKeys) {
+                    // 넘친 조합은 헤더 값과 관계없이 한 키로 모음
+                    key = new FailureKey(OTHER, OTHER, OTHER);
+                }
+                counter = window.counts.computeIfAbsent(key, k -> new LongAdder());
+            }
+            counter.increment();
+
+            if (sample != null) {
+                if (window.sampleCount.incrementAndGet() <= maxSamples) {
+                    window.samples.add(sample);
+                } else {
+                    window.droppedSamples.increment();
+                }
+            }
+        } finally {
+            windowLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재처리가 필요한 실패 요청을 기록합니다. 건수는 요약에 포함되고, 요청은 샘플 한도와 별개로
+     * 재처리 배치에 담깁니다. 배치가 건수나 크기 한도에 닿으면 바로 발행합니다.
+     *
+     * @param request   원본 요청 본문을 담은 실패 정보
+     * @param bodyBytes 원본 요청 본문 크기
+     */
+    public void recordReplay(String path, String method, String partnerType, Map<String, Object> request,
+                             int bodyBytes) {
+        recordFailure(path, method, partnerType, null);
+
+        int size = bodyBytes + REPLAY_ENTRY_OVERHEAD_BYTES;
+        List<List<Map<String, Object>>> batches = new ArrayList<>(2);
+        synchronized (replayLock) {
+            if (!pendingReplays.isEmpty() && pendingReplayBytes + size > maxReplayBatchBytes) {
+                // 이번 요청을 더하면 크기 한도를 넘으므로 먼저 모인 배치를 발행
+                batches.add(takeReplays());
+            }
+            pendingReplays.add(request);
+            pendingReplayBytes += size;
+            if (pendingReplays.size() >= maxReplayBatch || pendingReplayBytes >= maxReplayBatchBytes) {
+                batches.add(takeReplays());
+            }
+        }
+        batches.forEach(this::publishReplays);
+    }
+
+    // replayLock 안에서 호출
+    private List<Map<String, Object>> takeReplays() {
+        List<Map<String, Object>> batch = pendingReplays;
+        pendingReplays = new ArrayList<>();
+        pendingReplayBytes = 0;
+        return batch;
+    }
+
+    @Scheduled(fixedDelayString = "${circuitbreaker.events.window:10000}")
+    public void flush() {
+        List<Map<String, Object>> replays;
+        synchronized (replayLock) {
+            replays = takeReplays();
+        }
+        if (!replays.isEmpty()) {
+            publishReplays(replays);
+        }
+
+        Window window;
+        windowLock.writeLock().lock();
+        try {
+            window = current;
+            current = new Window();
+        } finally {
+            windowLock.writeLock().unlock();
+        }
+
+        long total = window.total.sum();
+        if (total == 0) {
+            return;
+        }
+
+        List<Map<String, Object>> counts = new ArrayList<>(window.counts.size());
+        window.counts.forEach((key, count) -> {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("path", key.path());
+            entry.put("method", key.method());
+            entry.put("partnerType", key.partnerType());
+            entry.put("count", count.sum());
+            counts.add(entry);
+        });
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("service", "point-service");
+        summary.put("windowStart", window.start.toString());
+        summary.put("windowEnd", LocalDateTime.now().toString());
+        summary.put("totalFailures", total);
+        summary.put("counts", counts);
+        summary.put("samples", new ArrayList<>(window.samples));
+        summary.put("droppedSamples", window.droppedSamples.sum());
+
+        log.warn("Circuit breaker failure summary: {} failures, {} keys, {} samples",
+                total, counts.size(), window.samples.size());
+
+        publish("point-service-circuit-failure-summary", EVENT_FAILURE_SUMMARY, summary);
+    }
+
+    private void publishReplays(List<Map<String, Object>> requests) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("service", "point-service");
+        data.put("timestamp", LocalDateTime.now().toString());
+        data.put("requests", requests);
+
+        log.warn("Publishing {} rejected requests for replay", requests.size());
+
+        publish("point-service-circuit-replay", EVENT_REPLAY_BATCH, data);
+    }
+
+    private void publishTransition(CircuitBreaker circuitBreaker, CircuitBreakerOnStateTransitionEvent event) {
+        CircuitBreaker.State toState = event.getStateTransition().getToState();
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("service", "point-service");
+        data.put("circuitBreaker", circuitBreaker.getName());
+        data.put("timestamp", LocalDateTime.now().toString());
+        data.put("fromState", event.getStateTransition().getFromState().name());
+        data.put("toState", toState.name());
+        data.put("failureRate", circuitBreaker.getMetrics().getFailureRate());
+
+        log.warn("Circuit breaker {} transitioned {}", circuitBreaker.getName(), event.getStateTransition());
+
+        if (toState == CircuitBreaker.State.OPEN) {
+            publish("point-service-circuit-opened", EVENT_OPENED, data);
+        } else {
+            publish("point-service-circuit-state-changed", EVENT_STATE_CHANGED, data);
+        }
+    }
+
+    private void publish(String subject, String eventType, Map<String, Object> data) {
+        EventMessage<Map<String, Object>> message = EventMessage.<Map<String, Object>>builder()
+                .subject(subject)
+                .eventType(eventType)
+                .data(data)
+                .build();
+
+        eventGridService.publishEvent(message)
+                .subscribe(null, error -> log.error("Failed to queue {} event", eventType, error));
+    }
+
+    private record FailureKey(String path, String method, String partnerType) {
+    }
+
+    private static class Window {
+        private final LocalDateTime start = LocalDateTime.now();
+        private final Map<FailureKey, LongAdder> counts = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<Map<String, Object>> samples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger sampleCount = new AtomicInteger();
+        private final LongAdder droppedSamples = new LongAdder();
+        private final LongAdder total = new LongAdder();
+    }
+}
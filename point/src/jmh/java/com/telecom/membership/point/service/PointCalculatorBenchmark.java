@@ -0,0 +1,136 @@
+// File: membership/point/src/jmh/java/com/telecom/membership/point/service/PointCalculatorBenchmark.java
+package com.telecom.membership.point.service;
+
+import com.telecom.membership.common.dto.PointRequest;
+import com.telecom.membership.point.domain.PointRateRule;
+import com.telecom.membership.point.domain.PointTransactionCodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 BigDecimal 적립 계산과 컴파일된 적립률 규칙 계산 비교.
+ * <p>
+ * rules=default 는 기본 적립률 3건, rules=overrides 는 partnerId 전용/회원 등급/기간 프로모션 규칙이 섞인 구성입니다.
+ * 두 방식의 결과가 같은지는 PointRateTableTest 에서 검증하며, 측정 입력에 대해서도 setup 에서 한 번 더 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointCalculatorBenchmark {
+
+    private static final Map<String, BigDecimal> LEGACY_RATES = Map.of(
+            "MART", new BigDecimal("0.01"),
+            "CONVENIENCE", new BigDecimal("0.005"),
+            "ONLINE", new BigDecimal("0.02")
+    );
+    private static final String[] PARTNER_TYPES = {"MART", "CONVENIENCE", "ONLINE"};
+    private static final String[] TIERS = {null, "SILVER", "GOLD", "VIP"};
+    private static final int REQUESTS = 1024;
+
+    @Param({"default", "overrides"})
+    private String rules;
+
+    private PointRequest[] requests;
+    private PointRateTable table;
+    private long now;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        requests = new PointRequest[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requests[i] = PointRequest.builder()
+                    .memberId("member-" + random.nextInt(10_000))
+                    .partnerId("partner-" + random.nextInt(200))
+                    .partnerType(PARTNER_TYPES[random.nextInt(PARTNER_TYPES.length)])
+                    .memberTier(TIERS[random.nextInt(TIERS.length)])
+                    .amount(BigDecimal.valueOf(1 + random.nextInt(50_000_000), random.nextInt(3)))
+                    .build();
+        }
+        now = System.currentTimeMillis();
+
+        PointRateTable defaults = PointRateTable.compile(PointCalculator.DEFAULT_RULES, ZoneId.systemDefault());
+        for (PointRequest request : requests) {
+            if (legacy(request).longValueExact() != compiled(defaults, request)) {
+                throw new IllegalStateException("Result mismatch for amount " + request.getAmount()
+                        + " " + request.getPartnerType());
+            }
+        }
+
+        table = "overrides".equals(rules)
+                ? PointRateTable.compile(overrideRules(), ZoneId.systemDefault())
+                : defaults;
+    }
+
+    @Benchmark
+    public BigDecimal legacyBigDecimal() {
+        return legacy(next());
+    }
+
+    @Benchmark
+    public long compiledRules() {
+        return compiled(table, next());
+    }
+
+    private PointRequest next() {
+        return requests[index++ & (REQUESTS - 1)];
+    }
+
+    private static BigDecimal legacy(PointRequest request) {
+        return request.getAmount()
+                .multiply(LEGACY_RATES.get(request.getPartnerType()))
+                .setScale(0, RoundingMode.FLOOR);
+    }
+
+    private long compiled(PointRateTable rates, PointRequest request) {
+        return rates.points(request.getPartnerType(), request.getPartnerId(), request.getMemberTier(),
+                PointTransactionCodes.toMinorUnits(request.getAmount()), now);
+    }
+
+    private static List<PointRateRule> overrideRules() {
+        List<PointRateRule> rules = new ArrayList<>(PointCalculator.DEFAULT_RULES);
+        LocalDateTime today = LocalDateTime.now();
+        long id = 10;
+        for (String partnerType : PARTNER_TYPES) {
+            rules.add(PointRateRule.builder().id(id++).partnerType(partnerType)
+                    .memberTier("GOLD").rate(new BigDecimal("0.015")).build());
+            rules.add(PointRateRule.builder().id(id++).partnerType(partnerType)
+                    .memberTier("VIP").rate(new BigDecimal("0.03")).build());
+            // 지난 프로모션과 진행 중인 프로모션
+            rules.add(PointRateRule.builder().id(id++).partnerType(partnerType).priority(10)
+                    .validFrom(today.minusDays(30)).validTo(today.minusDays(1)).rate(new BigDecimal("0.05")).build());
+            rules.add(PointRateRule.builder().id(id++).partnerType(partnerType).priority(10).memberTier("VIP")
+                    .validFrom(today.minusDays(1)).validTo(today.plusDays(1)).rate(new BigDecimal("0.04")).build());
+        }
+        for (int partner = 0; partner < 200; partner += 2) {
+            rules.add(PointRateRule.builder().id(id++)
+                    .partnerType(PARTNER_TYPES[partner % PARTNER_TYPES.length])
+                    .partnerId("partner-" + partner)
+                    .rate(new BigDecimal("0.012500")).build());
+        }
+        return rules;
+    }
+}
@@ -0,0 +1,69 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/config/MeteredConnectionPool.java
+package com.telecom.membership.point.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConnectionPool} 에 풀 이름별 지표를 붙인 ConnectionFactory 입니다.
+ * <p>
+ * 풀 상태(r2dbc.pool.acquired, idle, pending 등)는 {@link ConnectionPoolMetrics} 로,
+ * 커넥션을 얻기까지 걸린 시간은 r2dbc.pool.acquire 타이머(outcome 태그)로 기록합니다.
+ * 애플리케이션 종료 시 풀을 닫습니다.
+ */
+public class MeteredConnectionPool implements ConnectionFactory, Closeable {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final ConnectionPool pool;
+    private final Timer acquired;
+    private final Timer failed;
+
+    public MeteredConnectionPool(String name, ConnectionPool pool, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.pool = pool;
+
+        new ConnectionPoolMetrics(pool, name, Tags.empty()).bindTo(meterRegistry);
+        this.acquired = Timer.builder("r2dbc.pool.acquire")
+                .description("커넥션 획득 대기 시간")
+                .tag("name", name).tag("outcome", "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failed = Timer.builder("r2dbc.pool.acquire")
+                .description("커넥션 획득 대기 시간")
+                .tag("name", name).tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return pool.create()
+                    .doOnSuccess(connection -> acquired.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,41 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/config/OutboxConfig.java
+package com.telecom.membership.point.config;
+
+import com.azure.core.credential.AzureKeyCredential;
+import com.azure.messaging.eventgrid.EventGridPublisherClientBuilder;
+import com.telecom.membership.point.service.EventGridOutboxPublisher;
+import com.telecom.membership.point.service.LoggingOutboxPublisher;
+import com.telecom.membership.point.service.OutboxPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * outbox 발행기 선택 (point.outbox.publisher: eventgrid | logging)
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "point.outbox.publisher", havingValue = "eventgrid", matchIfMissing = true)
+    public OutboxPublisher eventGridOutboxPublisher(
+            @Value("${azure.eventgrid.endpoint}") String endpoint,
+            @Value("${azure.eventgrid.key}") String key,
+            @Value("${point.outbox.send-timeout:10000}") long sendTimeout) {
+        return new EventGridOutboxPublisher(
+                new EventGridPublisherClientBuilder()
+                        .endpoint(endpoint)
+                        .credential(new AzureKeyCredential(key))
+                        .buildEventGridEventPublisherAsyncClient(),
+                Duration.ofMillis(sendTimeout));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "point.outbox.publisher", havingValue = "logging")
+    public OutboxPublisher loggingOutboxPublisher() {
+        return new LoggingOutboxPublisher();
+    }
+}
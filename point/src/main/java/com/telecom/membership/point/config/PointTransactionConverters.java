@@ -0,0 +1,73 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/config/PointTransactionConverters.java
+package com.telecom.membership.point.config;
+
+import com.telecom.membership.point.domain.PointTransaction;
+import io.r2dbc.spi.Row;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.r2dbc.core.Parameter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.telecom.membership.point.domain.PointTransactionCodes.fromMinorUnits;
+import static com.telecom.membership.point.domain.PointTransactionCodes.partnerType;
+import static com.telecom.membership.point.domain.PointTransactionCodes.partnerTypeCode;
+import static com.telecom.membership.point.domain.PointTransactionCodes.status;
+import static com.telecom.membership.point.domain.PointTransactionCodes.statusCode;
+import static com.telecom.membership.point.domain.PointTransactionCodes.toMinorUnits;
+
+/**
+ * {@link PointTransaction} 과 압축 저장 형식(SMALLINT 코드, 최소 단위 BIGINT) 간 변환기.
+ * 도메인/API 는 기존처럼 BigDecimal 과 문자열 상태를 사용합니다.
+ */
+public final class PointTransactionConverters {
+
+    private PointTransactionConverters() {
+    }
+
+    public static List<Object> all() {
+        return List.of(new ReadConverter(), new WriteConverter());
+    }
+
+    @ReadingConverter
+    public static class ReadConverter implements Converter<Row, PointTransaction> {
+
+        @Override
+        public PointTransaction convert(Row row) {
+            PointTransaction transaction = PointTransaction.builder()
+                    .id(row.get("id", Long.class))
+                    .memberId(row.get("member_id", String.class))
+                    .partnerId(row.get("partner_id", String.class))
+                    .partnerType(partnerType(row.get("partner_type", Short.class)))
+                    .amount(fromMinorUnits(row.get("amount", Long.class)))
+                    .points(fromMinorUnits(row.get("points", Long.class)))
+                    .transactionTime(row.get("transaction_time", LocalDateTime.class))
+                    .build();
+            transaction.setStatus(status(row.get("status", Short.class)));
+            return transaction;
+        }
+    }
+
+    @WritingConverter
+    public static class WriteConverter implements Converter<PointTransaction, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(PointTransaction source) {
+            OutboundRow row = new OutboundRow();
+            if (source.getId() != null) {
+                row.put("id", Parameter.from(source.getId()));
+            }
+            row.put("member_id", Parameter.from(source.getMemberId()));
+            row.put("partner_id", Parameter.from(source.getPartnerId()));
+            row.put("partner_type", Parameter.from(partnerTypeCode(source.getPartnerType())));
+            row.put("amount", Parameter.from(toMinorUnits(source.getAmount())));
+            row.put("points", Parameter.from(toMinorUnits(source.getPoints())));
+            row.put("transaction_time", Parameter.from(source.getTransactionTime()));
+            row.put("status", Parameter.from(statusCode(source.getStatus())));
+            return row;
+        }
+    }
+}
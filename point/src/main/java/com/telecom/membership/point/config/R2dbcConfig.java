@@ -1,44 +1,158 @@
 // File: membership/point/src/main/java/com/telecom/membership/point/config/R2dbcConfig.java
 package com.telecom.membership.point.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
 import org.springframework.r2dbc.connection.R2dbcTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
+@Slf4j
 @Configuration
 @EnableTransactionManagement
 public class R2dbcConfig {
 
+    @Value("${spring.r2dbc.pool.initial-size:10}")
+    private int initialSize;
+
+    @Value("${spring.r2dbc.pool.max-size:50}")
+    private int maxSize;
+
+    @Value("${spring.r2dbc.pool.max-idle-time:30m}")
+    private Duration maxIdleTime;
+
+    @Value("${spring.r2dbc.pool.max-life-time:1h}")
+    private Duration maxLifeTime;
+
+    @Value("${spring.r2dbc.pool.max-acquire-time:3s}")
+    private Duration maxAcquireTime;
+
+    @Value("${spring.r2dbc.pool.max-create-connection-time:5s}")
+    private Duration maxCreateConnectionTime;
+
+    @Value("${spring.r2dbc.pool.validation-query:SELECT 1}")
+    private String validationQuery;
+
+    // 커넥션별로 캐시할 prepared statement 수 (0: 캐시 안 함, -1: 무제한)
+    @Value("${spring.r2dbc.properties.preparedStatementCacheQueries:256}")
+    private int preparedStatementCacheQueries;
+
+    // 읽기 복제본 (host:port 목록, 비어 있으면 모든 조회를 primary 로)
+    @Value("${point.replica.hosts:}")
+    private List<String> replicaHosts;
+
+    @Value("${point.replica.max-lag:5s}")
+    private Duration replicaMaxLag;
+
+    @Value("${point.replica.health-check-interval:2s}")
+    private Duration replicaHealthCheckInterval;
+
+    @Value("${point.replica.pool.initial-size:5}")
+    private int replicaInitialSize;
+
+    @Value("${point.replica.pool.max-size:30}")
+    private int replicaMaxSize;
+
     @Bean
     public ConnectionFactory connectionFactory(
             @Value("${spring.r2dbc.url}") String url,
             @Value("${spring.r2dbc.username}") String username,
-            @Value("${spring.r2dbc.password}") String password) throws URISyntaxException {
+            @Value("${spring.r2dbc.password}") String password,
+            MeterRegistry meterRegistry) throws URISyntaxException {
 
         String cleanUrl = url.replace("r2dbc:postgresql://", "");
         URI uri = new URI("postgresql://" + cleanUrl);
+        String database = uri.getPath().substring(1);
 
+        MeteredConnectionPool primary = pooled("primary",
+                postgres(uri.getHost(), uri.getPort(), database, username, password),
+                initialSize, maxSize, meterRegistry);
+
+        List<String> hosts = replicaHosts.stream().map(String::trim).filter(host -> !host.isEmpty()).toList();
+        if (hosts.isEmpty()) {
+            return primary;
+        }
+
+        List<MeteredConnectionPool> replicas = new ArrayList<>(hosts.size());
+        for (int i = 0; i < hosts.size(); i++) {
+            URI replica = new URI("postgresql://" + hosts.get(i));
+            replicas.add(pooled("replica-" + i,
+                    postgres(replica.getHost(), replica.getPort() > 0 ? replica.getPort() : uri.getPort(),
+                            database, username, password),
+                    replicaInitialSize, replicaMaxSize, meterRegistry));
+        }
+        log.info("Routing reads to {} replicas (max lag {})", replicas.size(), replicaMaxLag);
+
+        return new ReplicaRoutingConnectionFactory(primary, replicas, replicaMaxLag, replicaHealthCheckInterval,
+                meterRegistry);
+    }
+
+    private PostgresqlConnectionFactory postgres(String host, int port, String database,
+                                                 String username, String password) {
         return new PostgresqlConnectionFactory(
                 PostgresqlConnectionConfiguration.builder()
-                        .host(uri.getHost())
-                        .port(uri.getPort())
-                        .database(uri.getPath().substring(1))
+                        .host(host)
+                        .port(port)
+                        .database(database)
                         .username(username)
                         .password(password)
+                        .preparedStatementCacheQueries(preparedStatementCacheQueries)
                         .build()
         );
     }
 
+    /**
+     * 커넥션 풀을 만들고 initialSize 만큼 미리 연결합니다.
+     * 기동 시 DB 에 연결할 수 없어도 서비스는 시작하며, 이후 요청 시 연결합니다.
+     */
+    private MeteredConnectionPool pooled(String name, ConnectionFactory connectionFactory,
+                                         int initialSize, int maxSize, MeterRegistry meterRegistry) {
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(name)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .maxAcquireTime(maxAcquireTime)
+                .maxCreateConnectionTime(maxCreateConnectionTime)
+                .validationQuery(validationQuery)
+                .build());
+
+        try {
+            Integer warmed = pool.warmup().block(maxCreateConnectionTime.multipliedBy(2));
+            log.info("R2DBC pool '{}' warmed up with {} connections (max {})", name, warmed, maxSize);
+        } catch (RuntimeException e) {
+            log.warn("R2DBC pool '{}' warm-up failed: {}", name, e.getMessage());
+        }
+
+        return new MeteredConnectionPool(name, pool, meterRegistry);
+    }
+
+    /**
+     * point_transactions 압축 저장 형식 변환기 등록
+     */
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions() {
+        return R2dbcCustomConversions.of(PostgresDialect.INSTANCE, PointTransactionConverters.all());
+    }
+
     @Bean
     public R2dbcTransactionManager transactionManager(ConnectionFactory connectionFactory) {
         return new R2dbcTransactionManager(connectionFactory);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/config/ReplicaRoutingConnectionFactory.java
+package com.telecom.membership.point.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 조회는 읽기 복제본으로, 그 외(쓰기, 트랜잭션)는 primary 로 보내는 ConnectionFactory 입니다.
+ * <p>
+ * {@link #preferReplica()} 를 Reactor Context 에 넣은 조회만 복제본을 사용합니다. 복제본은 health-check-interval
+ * 마다 연결과 복제 지연을 확인해, 응답하지 않거나 지연이 max-lag 를 넘는 복제본은 제외하고
+ * 남은 복제본을 round-robin 으로 선택합니다. 사용할 수 있는 복제본이 없으면 primary 로 조회합니다.
+ * 풀은 복제본마다 따로 두므로 조회가 몰려도 primary 의 적립 커넥션을 차지하지 않습니다.
+ */
+@Slf4j
+public class ReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    private static final String REPLICA_ROUTE = ReplicaRoutingConnectionFactory.class.getName() + ".REPLICA";
+
+    // 마지막 WAL 까지 재생했으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간(ms)
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE CAST(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000 AS BIGINT)
+                   END AS lag_ms
+            """;
+
+    private final MeteredConnectionPool primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Disposable healthCheck;
+
+    public ReplicaRoutingConnectionFactory(MeteredConnectionPool primary,
+                                           List<MeteredConnectionPool> replicaPools,
+                                           Duration maxLag,
+                                           Duration healthCheckInterval,
+                                           MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.healthCheckTimeout = healthCheckInterval;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(primary.getName(), primary);
+        replicas.forEach(replica -> {
+            targets.put(replica.pool.getName(), replica.pool);
+            Gauge.builder("point.db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("name", replica.pool.getName())
+                    .register(meterRegistry);
+            Gauge.builder("point.db.replica.lag", replica, r -> r.lagMillis)
+                    .tag("name", replica.pool.getName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        });
+        setTargetConnectionFactories(targets);
+        setDefaultTargetConnectionFactory(primary);
+
+        checkReplicas();
+        long intervalMillis = healthCheckInterval.toMillis();
+        this.healthCheck = Schedulers.parallel().schedulePeriodically(
+                this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 조회 파이프라인에 contextWrite 로 붙이면 해당 조회는 복제본을 사용합니다.
+     * 트랜잭션 안에서는 이미 묶인 primary 커넥션을 그대로 사용합니다.
+     */
+    public static Function<Context, Context> preferReplica() {
+        return context -> context.put(REPLICA_ROUTE, Boolean.TRUE);
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> context.getOrDefault(REPLICA_ROUTE, Boolean.FALSE)
+                ? Mono.justOrEmpty(selectReplica())
+                : Mono.empty());
+    }
+
+    private Object selectReplica() {
+        int count = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, count));
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            if (replica.healthy) {
+                return replica.pool.getName();
+            }
+        }
+        return null;
+    }
+
+    private void checkReplicas() {
+        Flux.fromIterable(replicas)
+                .flatMap(replica -> Mono.usingWhen(replica.pool.create(),
+                                connection -> lag(connection),
+                                Connection::close)
+                        .timeout(healthCheckTimeout)
+                        .map(lag -> replica.update(lag, maxLagMillis))
+                        .onErrorResume(e -> Mono.fromRunnable(() -> replica.fail(e))))
+                .subscribe();
+    }
+
+    private static Mono<Long> lag(Connection connection) {
+        return Mono.from(connection.createStatement(LAG_QUERY).execute())
+                .flatMap(result -> Mono.from(result.map((row, metadata) -> {
+                    Long lag = row.get("lag_ms", Long.class);
+                    // primary 로 승격된 경우 등 복제본이 아니면 사용하지 않음
+                    return lag != null ? lag : Long.MAX_VALUE;
+                })));
+    }
+
+    @Override
+    public void destroy() {
+        healthCheck.dispose();
+        replicas.forEach(replica -> replica.pool.close());
+        primary.close();
+    }
+
+    private static class Replica {
+        private final MeteredConnectionPool pool;
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+
+        private Replica(MeteredConnectionPool pool) {
+            this.pool = pool;
+        }
+
+        private Replica update(long lag, long maxLagMillis) {
+            boolean wasHealthy = healthy;
+            lagMillis = lag;
+            healthy = lag <= maxLagMillis;
+            if (wasHealthy != healthy) {
+                log.warn("Read replica '{}' is now {} (lag {}ms, max {}ms)",
+                        pool.getName(), healthy ? "in service" : "out of service", lag, maxLagMillis);
+            }
+            return this;
+        }
+
+        private void fail(Throwable e) {
+            if (healthy) {
+                log.warn("Read replica '{}' health check failed: {}", pool.getName(), e.getMessage());
+            }
+            healthy = false;
+        }
+    }
+}
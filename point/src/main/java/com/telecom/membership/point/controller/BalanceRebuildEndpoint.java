@@ -0,0 +1,34 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/controller/BalanceRebuildEndpoint.java
+package com.telecom.membership.point.controller;
+
+import com.telecom.membership.point.service.PointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 전체 회원 보유 포인트 재계산 (운영용, POST /actuator/balancerebuild).
+ * <p>
+ * 전체 거래내역을 읽는 작업이므로 파트너가 호출하는 /api/points/** (gateway 라우트) 가 아닌
+ * actuator 경로로만 노출합니다.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "balancerebuild")
+@RequiredArgsConstructor
+public class BalanceRebuildEndpoint {
+
+    private final PointService pointService;
+
+    /**
+     * @return 갱신된 회원 잔액 행 수
+     */
+    @WriteOperation
+    public Mono<Long> rebuild() {
+        log.info("Balance rebuild requested through actuator");
+        return pointService.rebuildBalances();
+    }
+}
@@ -4,15 +4,19 @@ package com.telecom.membership.point.controller;
 import com.telecom.membership.common.dto.PointRequest;
 import com.telecom.membership.common.dto.PointResponse;
 import com.telecom.membership.common.response.ApiResponse;
+import com.telecom.membership.point.domain.MemberPointBalance;
 import com.telecom.membership.point.domain.PointTransaction;
+import com.telecom.membership.point.domain.TransactionPage;
 import com.telecom.membership.point.service.PointService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -30,13 +34,26 @@ public class PointController {
     @PostMapping("/accumulate")
     @Operation(summary = "포인트 적립", description = "회원의 구매 금액에 따라 포인트를 적립합니다.")
     public Mono<ResponseEntity<ApiResponse<PointResponse>>> accumulatePoints(
+            @Parameter(description = "중복 적립 방지 키 (없으면 partnerId + receiptId 사용)")
+            @RequestHeader(value = PointRequest.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody PointRequest request) {
-        return pointService.processPointAccumulation(request)
+        return pointService.processPointAccumulation(request, idempotencyKey)
                 .map(response -> ResponseEntity.ok(ApiResponse.success(response)))
                 .doOnSuccess(response -> log.info("Points accumulated successfully for member: {}", request.getMemberId()))
                 .doOnError(error -> log.error("Error accumulating points for member: {}", request.getMemberId(), error));
     }
 
+    @PostMapping(value = "/accumulate/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "포인트 배치 적립",
+            description = "JSON 배열 또는 NDJSON 으로 전달된 적립 요청을 순서대로 처리하고 항목별 결과를 NDJSON 으로 스트리밍합니다.")
+    public Flux<PointResponse> accumulatePointsBatch(@RequestBody Flux<PointRequest> requests) {
+        return pointService.processBatchAccumulation(requests)
+                .doOnComplete(() -> log.info("Batch point accumulation completed"))
+                .doOnError(error -> log.error("Error processing batch point accumulation", error));
+    }
+
     @GetMapping("/transactions/{memberId}")
     @Operation(summary = "포인트 거래내역 조회", description = "회원의 포인트 거래내역을 조회합니다.")
     public Mono<ResponseEntity<ApiResponse<List<PointTransaction>>>> getTransactions(
@@ -54,6 +71,47 @@ public class PointController {
                 .doOnError(error -> log.error("Error retrieving transactions for member: {}", memberId, error));
     }
 
+    @GetMapping(value = "/transactions/{memberId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "포인트 거래내역 스트리밍 조회",
+            description = "회원의 포인트 거래내역을 최신순으로 NDJSON 스트리밍합니다.")
+    public Flux<PointTransaction> streamTransactions(
+            @Parameter(description = "회원 ID", required = true)
+            @PathVariable String memberId,
+            @Parameter(description = "조회 시작일 (yyyy-MM-dd)")
+            @RequestParam(required = false) String startDate,
+            @Parameter(description = "조회 종료일 (yyyy-MM-dd)")
+            @RequestParam(required = false) String endDate) {
+        return pointService.streamTransactions(memberId, startDate, endDate);
+    }
+
+    @GetMapping("/transactions/{memberId}/page")
+    @Operation(summary = "포인트 거래내역 페이지 조회",
+            description = "회원의 포인트 거래내역을 최신순으로 페이지 단위 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    public Mono<ResponseEntity<ApiResponse<TransactionPage>>> getTransactionPage(
+            @Parameter(description = "회원 ID", required = true)
+            @PathVariable String memberId,
+            @Parameter(description = "조회 시작일 (yyyy-MM-dd)")
+            @RequestParam(required = false) String startDate,
+            @Parameter(description = "조회 종료일 (yyyy-MM-dd)")
+            @RequestParam(required = false) String endDate,
+            @Parameter(description = "이전 페이지 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기")
+            @RequestParam(required = false) Integer size) {
+        return pointService.getTransactionPage(memberId, startDate, endDate, cursor, size)
+                .map(page -> ResponseEntity.ok(ApiResponse.success(page)));
+    }
+
+    @GetMapping("/balance/{memberId}")
+    @Operation(summary = "보유 포인트 조회", description = "회원의 현재 보유 포인트를 조회합니다.")
+    public Mono<ResponseEntity<ApiResponse<MemberPointBalance>>> getBalance(
+            @Parameter(description = "회원 ID", required = true)
+            @PathVariable String memberId) {
+        return pointService.getBalance(memberId)
+                .map(balance -> ResponseEntity.ok(ApiResponse.success(balance)))
+                .doOnError(error -> log.error("Error retrieving balance for member: {}", memberId, error));
+    }
+
     @GetMapping("/health")
     @Operation(summary = "헬스 체크", description = "서비스의 상태를 확인합니다.")
     public ResponseEntity<ApiResponse<String>> healthCheck() {
@@ -0,0 +1,33 @@
+package com.telecom.membership.point.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("member_point_balance")
+public class MemberPointBalance {
+    @Id
+    private String memberId;
+    private BigDecimal totalPoints;
+    // 반영된 거래 수 (갱신 순서 비교에 사용)
+    private long transactionCount;
+    private LocalDateTime updatedAt;
+
+    public static MemberPointBalance empty(String memberId) {
+        return MemberPointBalance.builder()
+                .memberId(memberId)
+                .totalPoints(BigDecimal.ZERO)
+                .transactionCount(0)
+                .build();
+    }
+}
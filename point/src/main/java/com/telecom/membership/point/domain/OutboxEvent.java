@@ -0,0 +1,25 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/domain/OutboxEvent.java
+package com.telecom.membership.point.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * point_outbox 행. 거래와 같은 트랜잭션에서 기록되고 OutboxRelay 가 발행합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    private Long id;
+    private String eventType;
+    private String subject;
+    // JSON 문자열
+    private String payload;
+    private LocalDateTime createdAt;
+}
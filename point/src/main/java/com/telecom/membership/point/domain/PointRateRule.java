@@ -0,0 +1,31 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/domain/PointRateRule.java
+package com.telecom.membership.point.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * point_rate_rules 행. partnerId, memberTier, 적용 기간이 비어 있으면 해당 조건은 모두 일치합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointRateRule {
+    private Long id;
+    private String partnerType;
+    private String partnerId;
+    private String memberTier;
+    // 적용 시작(포함)/종료(제외) 시각
+    private LocalDateTime validFrom;
+    private LocalDateTime validTo;
+    // 적립률 (소수점 6자리까지)
+    private BigDecimal rate;
+    // 여러 규칙이 일치하면 높은 값 우선
+    private int priority;
+}
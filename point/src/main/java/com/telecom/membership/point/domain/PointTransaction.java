@@ -1,11 +1,13 @@
 package com.telecom.membership.point.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.telecom.membership.common.enums.TransactionStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
@@ -27,6 +29,16 @@ public class PointTransaction {
     private LocalDateTime transactionTime;
     private String status;
 
+    // 중복 적립 방지 키 (point_idempotency_keys 에 저장, 거래 행에는 저장 안 함)
+    @Transient
+    @JsonIgnore
+    private String idempotencyKey;
+
+    // 같은 키로 이미 저장된 거래가 있어 저장하지 않은 경우 true
+    @Transient
+    @JsonIgnore
+    private boolean duplicate;
+
     // Builder에서 TransactionStatus를 받아 String으로 변환
     public static class PointTransactionBuilder {
         public PointTransactionBuilder status(TransactionStatus status) {
@@ -0,0 +1,76 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/domain/PointTransactionCodes.java
+package com.telecom.membership.point.domain;
+
+import com.telecom.membership.common.enums.TransactionStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * point_transactions 저장 형식 변환.
+ * <p>
+ * status, partner_type 은 SMALLINT 코드로, amount, points 는 소수점 {@value #MINOR_SCALE}자리까지의
+ * 최소 단위 BIGINT 로 저장합니다. 코드 값은 저장된 데이터와 맞물려 있으므로 기존 값을 바꾸지 말고 추가만 합니다.
+ */
+public final class PointTransactionCodes {
+
+    public static final int MINOR_SCALE = 2;
+
+    private PointTransactionCodes() {
+    }
+
+    public static short statusCode(String status) {
+        return switch (TransactionStatus.valueOf(status)) {
+            case PENDING -> 0;
+            case COMPLETED -> 1;
+            case FAILED -> 2;
+            case MAX_RETRY_EXCEEDED -> 3;
+        };
+    }
+
+    public static String status(short code) {
+        return switch (code) {
+            case 0 -> TransactionStatus.PENDING.name();
+            case 1 -> TransactionStatus.COMPLETED.name();
+            case 2 -> TransactionStatus.FAILED.name();
+            case 3 -> TransactionStatus.MAX_RETRY_EXCEEDED.name();
+            default -> throw new IllegalArgumentException("Unknown status code: " + code);
+        };
+    }
+
+    public static short partnerTypeCode(String partnerType) {
+        return switch (partnerType) {
+            case "MART" -> 1;
+            case "CONVENIENCE" -> 2;
+            case "ONLINE" -> 3;
+            default -> throw new IllegalArgumentException("Unknown partner type: " + partnerType);
+        };
+    }
+
+    public static String partnerType(short code) {
+        return switch (code) {
+            case 1 -> "MART";
+            case 2 -> "CONVENIENCE";
+            case 3 -> "ONLINE";
+            default -> throw new IllegalArgumentException("Unknown partner type code: " + code);
+        };
+    }
+
+    /**
+     * 금액을 최소 단위 정수로 변환합니다. 소수점 {@value #MINOR_SCALE}자리를 넘는 값은 {@link ArithmeticException}
+     */
+    public static long toMinorUnits(BigDecimal value) {
+        return value.movePointRight(MINOR_SCALE).longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long value) {
+        return BigDecimal.valueOf(value, MINOR_SCALE);
+    }
+
+    /**
+     * 최소 단위로 손실 없이 저장할 수 있는 금액인지 확인합니다.
+     */
+    public static boolean isRepresentable(BigDecimal value) {
+        return value.stripTrailingZeros().scale() <= MINOR_SCALE
+                && value.movePointRight(MINOR_SCALE).abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0;
+    }
+}
@@ -0,0 +1,42 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/domain/TransactionCursor.java
+package com.telecom.membership.point.domain;
+
+import com.telecom.membership.common.exception.PointException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래내역 페이지 이어받기 위치 (마지막으로 받은 거래의 transaction_time, id).
+ * 클라이언트에는 내용을 알 수 없는 base64url 토큰으로 전달합니다.
+ */
+public record TransactionCursor(LocalDateTime transactionTime, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static TransactionCursor of(PointTransaction transaction) {
+        return new TransactionCursor(transaction.getTransactionTime(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = transactionTime.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new PointException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/domain/TransactionPage.java
+package com.telecom.membership.point.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 거래내역 한 페이지 (최신순). nextCursor 가 null 이면 마지막 페이지입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPage {
+    private List<PointTransaction> transactions;
+    private String nextCursor;
+}
@@ -0,0 +1,116 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/repository/IdempotencyRepository.java
+package com.telecom.membership.point.repository;
+
+import com.telecom.membership.point.config.PointTransactionConverters;
+import com.telecom.membership.point.domain.PointTransaction;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 중복 적립 방지 키(point_idempotency_keys) 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+
+    private static final String CLAIM_SQL = """
+            INSERT INTO point_idempotency_keys (idempotency_key, created_at)
+            VALUES ($1, $2)
+            ON CONFLICT (idempotency_key) DO NOTHING
+            RETURNING idempotency_key
+            """;
+
+    private static final String LINK_SQL = """
+            UPDATE point_idempotency_keys
+            SET transaction_id = $1, transaction_time = $2
+            WHERE idempotency_key = $3
+            """;
+
+    private static final PointTransactionConverters.ReadConverter ROW_MAPPER =
+            new PointTransactionConverters.ReadConverter();
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 키를 선점하고 새로 선점한 키만 반환합니다. 호출 측 트랜잭션 안에서 실행해야 합니다.
+     * 다른 트랜잭션이 같은 키를 선점 중이면 그 트랜잭션이 끝날 때까지 기다립니다.
+     */
+    public Flux<String> claim(List<String> keys, LocalDateTime now) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(CLAIM_SQL);
+            for (int i = 0; i < keys.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                statement.bind(0, keys.get(i)).bind(1, now);
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> result.map((row, metadata) -> row.get("idempotency_key", String.class)));
+        });
+    }
+
+    /**
+     * 선점한 키에 저장된 거래를 연결합니다. 호출 측 트랜잭션 안에서 실행해야 합니다.
+     */
+    public Mono<Void> link(List<PointTransaction> transactions) {
+        List<PointTransaction> keyed = transactions.stream()
+                .filter(tx -> tx.getIdempotencyKey() != null)
+                .toList();
+        if (keyed.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(LINK_SQL);
+            for (int i = 0; i < keyed.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                PointTransaction tx = keyed.get(i);
+                statement.bind(0, tx.getId())
+                        .bind(1, tx.getTransactionTime())
+                        .bind(2, tx.getIdempotencyKey());
+            }
+            return Flux.from(statement.execute()).flatMap(result -> result.getRowsUpdated());
+        }).then();
+    }
+
+    /**
+     * 키로 처음 저장된 거래를 조회합니다.
+     */
+    public Mono<PointTransaction> findTransaction(String key) {
+        return databaseClient.sql("""
+                        SELECT t.id, t.member_id, t.partner_id, t.partner_type, t.amount, t.points,
+                               t.transaction_time, t.status
+                        FROM point_idempotency_keys k
+                        JOIN point_transactions t
+                          ON t.id = k.transaction_id AND t.transaction_time = k.transaction_time
+                        WHERE k.idempotency_key = :key
+                        """)
+                .bind("key", key)
+                .map((row, metadata) -> ROW_MAPPER.convert(row))
+                .one();
+    }
+
+    /**
+     * 보관 기간이 지난 키를 최대 limit 건 삭제합니다.
+     */
+    public Mono<Long> purge(LocalDateTime createdBefore, int limit) {
+        return databaseClient.sql("""
+                        DELETE FROM point_idempotency_keys
+                        WHERE idempotency_key IN (SELECT idempotency_key FROM point_idempotency_keys
+                                                  WHERE created_at < :createdBefore
+                                                  LIMIT :limit)
+                        """)
+                .bind("createdBefore", createdBefore)
+                .bind("limit", limit)
+                .fetch()
+                .rowsUpdated();
+    }
+}
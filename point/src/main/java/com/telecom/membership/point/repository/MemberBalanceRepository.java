@@ -0,0 +1,158 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/repository/MemberBalanceRepository.java
+package com.telecom.membership.point.repository;
+
+import com.telecom.membership.point.domain.MemberPointBalance;
+import com.telecom.membership.point.domain.PointTransaction;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 회원 잔액(member_point_balance) 읽기 모델 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberBalanceRepository {
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO member_point_balance (member_id, total_points, transaction_count, updated_at)
+            VALUES ($1, $2, $3, $4)
+            ON CONFLICT (member_id) DO UPDATE SET
+                total_points = member_point_balance.total_points + EXCLUDED.total_points,
+                transaction_count = member_point_balance.transaction_count + EXCLUDED.transaction_count,
+                updated_at = EXCLUDED.updated_at
+            RETURNING member_id, total_points, transaction_count, updated_at
+            """;
+
+    // 잔액 행이 없는 회원도 잠글 수 있도록 빈 행을 먼저 만듦
+    private static final String PLACEHOLDER_SQL = """
+            INSERT INTO member_point_balance (member_id, total_points, transaction_count, updated_at)
+            SELECT member_id, 0, 0, :now
+            FROM UNNEST(:memberIds::varchar[]) AS ids(member_id)
+            ORDER BY member_id
+            ON CONFLICT (member_id) DO NOTHING
+            """;
+
+    private static final String LOCK_SQL = """
+            SELECT member_id FROM member_point_balance
+            WHERE member_id = ANY(:memberIds)
+            ORDER BY member_id
+            FOR UPDATE
+            """;
+
+    // points 는 최소 단위(소수점 2자리) BIGINT 로 저장됨 (PointTransactionCodes.MINOR_SCALE)
+    private static final String RECOMPUTE_SQL = """
+            INSERT INTO member_point_balance (member_id, total_points, transaction_count, updated_at)
+            SELECT member_id, SUM(points) / 100.0, COUNT(*), :now
+            FROM point_transactions
+            WHERE member_id = ANY(:memberIds)
+            GROUP BY member_id
+            ON CONFLICT (member_id) DO UPDATE SET
+                total_points = EXCLUDED.total_points,
+                transaction_count = EXCLUDED.transaction_count,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 저장된 거래만큼 회원 잔액을 증가시키고 갱신된 잔액을 반환합니다. 호출 측 트랜잭션 안에서 실행해야 합니다.
+     * 회원별로 합산한 뒤 회원 ID 순으로 갱신해 동시 배치 사이의 교착을 피합니다.
+     */
+    public Flux<MemberPointBalance> increment(List<PointTransaction> transactions) {
+        Map<String, MemberPointBalance> deltas = new TreeMap<>();
+        for (PointTransaction tx : transactions) {
+            MemberPointBalance delta = deltas.computeIfAbsent(tx.getMemberId(), MemberPointBalance::empty);
+            delta.setTotalPoints(delta.getTotalPoints().add(tx.getPoints()));
+            delta.setTransactionCount(delta.getTransactionCount() + 1);
+        }
+        if (deltas.isEmpty()) {
+            return Flux.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INCREMENT_SQL);
+            boolean first = true;
+            for (MemberPointBalance delta : deltas.values()) {
+                if (!first) {
+                    statement.add();
+                }
+                first = false;
+                statement.bind(0, delta.getMemberId())
+                        .bind(1, delta.getTotalPoints())
+                        .bind(2, delta.getTransactionCount())
+                        .bind(3, now);
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> result.map((row, metadata) -> mapRow(row)));
+        });
+    }
+
+    public Mono<MemberPointBalance> findByMemberId(String memberId) {
+        return databaseClient.sql("""
+                        SELECT member_id, total_points, transaction_count, updated_at
+                        FROM member_point_balance
+                        WHERE member_id = :memberId
+                        """)
+                .bind("memberId", memberId)
+                .map((row, metadata) -> mapRow(row))
+                .one();
+    }
+
+    /**
+     * 거래내역이 있는 회원 ID를 스트리밍합니다. (fetchSize 단위로 가져와 전체를 메모리에 올리지 않음)
+     */
+    public Flux<String> streamMemberIds(int fetchSize) {
+        return databaseClient.sql("SELECT DISTINCT member_id FROM point_transactions")
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .map((row, metadata) -> row.get("member_id", String.class))
+                .all();
+    }
+
+    /**
+     * 주어진 회원들의 잔액을 거래내역에서 다시 계산합니다. 호출 측 트랜잭션 안에서 실행해야 합니다.
+     * 잔액 행을 먼저 잠가 재계산 중 커밋되는 적립이 덮어써지지 않도록 합니다.
+     * 잔액 행이 아직 없는 회원은 잠글 행이 없으므로 빈 행을 먼저 만들어 첫 적립과도 직렬화합니다.
+     *
+     * @return 갱신된 행 수
+     */
+    public Mono<Long> recompute(List<String> memberIds) {
+        String[] ids = memberIds.toArray(String[]::new);
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql(PLACEHOLDER_SQL)
+                .bind("memberIds", ids)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .thenMany(databaseClient.sql(LOCK_SQL)
+                        .bind("memberIds", ids)
+                        .fetch()
+                        .all())
+                .then(databaseClient.sql(RECOMPUTE_SQL)
+                        .bind("memberIds", ids)
+                        .bind("now", now)
+                        .fetch()
+                        .rowsUpdated());
+    }
+
+    private static MemberPointBalance mapRow(Row row) {
+        Long count = row.get("transaction_count", Long.class);
+        return MemberPointBalance.builder()
+                .memberId(row.get("member_id", String.class))
+                .totalPoints(row.get("total_points", BigDecimal.class))
+                .transactionCount(count != null ? count : 0)
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
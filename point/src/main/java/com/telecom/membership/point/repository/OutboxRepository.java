@@ -0,0 +1,109 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/repository/OutboxRepository.java
+package com.telecom.membership.point.repository;
+
+import com.telecom.membership.point.domain.OutboxEvent;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * point_outbox 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO point_outbox (event_type, subject, payload, created_at)
+            VALUES ($1, $2, $3, $4)
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 이벤트를 기록합니다. 호출 측 트랜잭션 안에서 실행해야 합니다.
+     */
+    public Mono<Void> append(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_SQL);
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                OutboxEvent event = events.get(i);
+                statement.bind(0, event.getEventType())
+                        .bind(1, event.getSubject())
+                        .bind(2, Json.of(event.getPayload()))
+                        .bind(3, event.getCreatedAt());
+            }
+            return Flux.from(statement.execute()).flatMap(result -> result.getRowsUpdated());
+        }).then();
+    }
+
+    /**
+     * 미발행 이벤트를 오래된 순으로 잠급니다. 다른 relay 가 잠근 행은 건너뜁니다(SKIP LOCKED).
+     * 호출 측 트랜잭션이 끝날 때까지 잠금이 유지됩니다.
+     */
+    public Flux<OutboxEvent> lockPending(int limit) {
+        return databaseClient.sql("""
+                        SELECT id, event_type, subject, payload, created_at
+                        FROM point_outbox
+                        WHERE published_at IS NULL
+                        ORDER BY id
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED
+                        """)
+                .bind("limit", limit)
+                .map((row, metadata) -> OutboxEvent.builder()
+                        .id(row.get("id", Long.class))
+                        .eventType(row.get("event_type", String.class))
+                        .subject(row.get("subject", String.class))
+                        .payload(row.get("payload", Json.class).asString())
+                        .createdAt(row.get("created_at", LocalDateTime.class))
+                        .build())
+                .all();
+    }
+
+    public Mono<Long> markPublished(List<Long> ids, LocalDateTime publishedAt) {
+        return databaseClient.sql("UPDATE point_outbox SET published_at = :publishedAt WHERE id = ANY(:ids)")
+                .bind("publishedAt", publishedAt)
+                .bind("ids", ids.toArray(Long[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * 가장 오래된 미발행 이벤트의 생성 시각 (없으면 empty)
+     */
+    public Mono<LocalDateTime> oldestPending() {
+        return databaseClient.sql("SELECT MIN(created_at) AS oldest FROM point_outbox WHERE published_at IS NULL")
+                .map((row, metadata) -> row.get("oldest", LocalDateTime.class))
+                .one();
+    }
+
+    /**
+     * 발행 후 보관 기간이 지난 이벤트를 최대 limit 건 삭제합니다.
+     */
+    public Mono<Long> purgePublished(LocalDateTime publishedBefore, int limit) {
+        return databaseClient.sql("""
+                        DELETE FROM point_outbox
+                        WHERE id IN (SELECT id FROM point_outbox
+                                     WHERE published_at < :publishedBefore
+                                     LIMIT :limit)
+                        """)
+                .bind("publishedBefore", publishedBefore)
+                .bind("limit", limit)
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,44 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/repository/PointRateRuleRepository.java
+package com.telecom.membership.point.repository;
+
+import com.telecom.membership.point.domain.PointRateRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * point_rate_rules 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointRateRuleRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 사용 중이고 since 이후에 종료되는 규칙을 모두 읽습니다.
+     */
+    public Flux<PointRateRule> findEnabled(LocalDateTime since) {
+        return databaseClient.sql("""
+                        SELECT id, partner_type, partner_id, member_tier, valid_from, valid_to, rate, priority
+                        FROM point_rate_rules
+                        WHERE enabled AND (valid_to IS NULL OR valid_to > :since)
+                        """)
+                .bind("since", since)
+                .map((row, metadata) -> PointRateRule.builder()
+                        .id(row.get("id", Long.class))
+                        .partnerType(row.get("partner_type", String.class))
+                        .partnerId(row.get("partner_id", String.class))
+                        .memberTier(row.get("member_tier", String.class))
+                        .validFrom(row.get("valid_from", LocalDateTime.class))
+                        .validTo(row.get("valid_to", LocalDateTime.class))
+                        .rate(row.get("rate", BigDecimal.class))
+                        .priority(row.get("priority", Integer.class))
+                        .build())
+                .all();
+    }
+}
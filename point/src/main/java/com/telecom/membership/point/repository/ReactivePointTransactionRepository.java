@@ -5,9 +5,7 @@ import com.telecom.membership.point.domain.PointTransaction;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Repository
@@ -26,12 +24,4 @@ public interface ReactivePointTransactionRepository extends ReactiveCrudReposito
             LocalDateTime startDate,
             LocalDateTime endDate
     );
-
-    /**
-     * 회원의 총 보유 포인트 조회
-     *
-     * @param memberId 회원 ID
-     * @return 총 포인트
-     */
-    Mono<BigDecimal> findTotalPointsByMemberId(String memberId);
 }
@@ -0,0 +1,80 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/repository/TransactionHistoryRepository.java
+package com.telecom.membership.point.repository;
+
+import com.telecom.membership.point.config.PointTransactionConverters;
+import com.telecom.membership.point.domain.PointTransaction;
+import com.telecom.membership.point.domain.TransactionCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 스트리밍/키셋 페이지 조회.
+ * <p>
+ * 두 조회 모두 (member_id, transaction_time, id) 커버링 인덱스를 역순으로 읽으며(index-only scan) 최신 거래부터 반환합니다.
+ * transaction_time 의 상한/하한을 단순 비교로 함께 주어 조회 기간의 월 파티션만 읽도록(partition pruning) 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionHistoryRepository {
+
+    private static final String STREAM_SQL = """
+            SELECT id, member_id, partner_id, partner_type, amount, points, transaction_time, status
+            FROM point_transactions
+            WHERE member_id = :memberId
+              AND transaction_time BETWEEN :startDate AND :endDate
+            ORDER BY transaction_time DESC, id DESC
+            """;
+
+    private static final String PAGE_SQL = """
+            SELECT id, member_id, partner_id, partner_type, amount, points, transaction_time, status
+            FROM point_transactions
+            WHERE member_id = :memberId
+              AND transaction_time >= :startDate
+              AND transaction_time <= :afterTime
+              AND (transaction_time, id) < (:afterTime, :afterId)
+            ORDER BY transaction_time DESC, id DESC
+            LIMIT :limit
+            """;
+
+    private static final PointTransactionConverters.ReadConverter ROW_MAPPER =
+            new PointTransactionConverters.ReadConverter();
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 기간 내 거래내역을 fetchSize 행씩 커서로 읽어 내보냅니다. 구독자가 요청한 만큼만 다음 행을 가져옵니다.
+     */
+    public Flux<PointTransaction> stream(String memberId, LocalDateTime startDate, LocalDateTime endDate,
+                                         int fetchSize) {
+        return databaseClient.sql(STREAM_SQL)
+                .bind("memberId", memberId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .map((row, metadata) -> ROW_MAPPER.convert(row))
+                .all();
+    }
+
+    /**
+     * cursor 다음(더 오래된) 거래를 최대 limit 건 조회합니다. cursor 가 null 이면 endDate 부터 시작합니다.
+     */
+    public Flux<PointTransaction> page(String memberId, LocalDateTime startDate, LocalDateTime endDate,
+                                       TransactionCursor cursor, int limit) {
+        // 첫 페이지: (endDate, MAX) 미만 = endDate 이하 전체
+        LocalDateTime afterTime = cursor != null ? cursor.transactionTime() : endDate;
+        long afterId = cursor != null ? cursor.id() : Long.MAX_VALUE;
+
+        return databaseClient.sql(PAGE_SQL)
+                .bind("memberId", memberId)
+                .bind("startDate", startDate)
+                .bind("afterTime", afterTime)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map((row, metadata) -> ROW_MAPPER.convert(row))
+                .all();
+    }
+}
@@ -0,0 +1,39 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/EventGridOutboxPublisher.java
+package com.telecom.membership.point.service;
+
+import com.azure.core.util.BinaryData;
+import com.azure.messaging.eventgrid.EventGridEvent;
+import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
+import com.telecom.membership.point.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * outbox 이벤트를 Event Grid 에 한 번의 sendEvents 호출로 발행합니다.
+ */
+@RequiredArgsConstructor
+public class EventGridOutboxPublisher implements OutboxPublisher {
+
+    private final EventGridPublisherAsyncClient<EventGridEvent> client;
+    private final Duration sendTimeout;
+
+    @Override
+    public Mono<Void> publish(List<OutboxEvent> events) {
+        List<EventGridEvent> batch = events.stream().map(this::toEventGridEvent).toList();
+        return client.sendEvents(batch).timeout(sendTimeout);
+    }
+
+    private EventGridEvent toEventGridEvent(OutboxEvent event) {
+        EventGridEvent eventGridEvent = new EventGridEvent(
+                event.getSubject(),
+                event.getEventType(),
+                BinaryData.fromString(event.getPayload()),
+                "1.0");
+        eventGridEvent.setEventTime(event.getCreatedAt().atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        return eventGridEvent;
+    }
+}
@@ -0,0 +1,126 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/IdempotencyService.java
+package com.telecom.membership.point.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.telecom.membership.common.dto.PointRequest;
+import com.telecom.membership.common.dto.PointResponse;
+import com.telecom.membership.common.exception.PointException;
+import com.telecom.membership.point.domain.PointTransaction;
+import com.telecom.membership.point.repository.IdempotencyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 중복 적립 방지.
+ * <p>
+ * 요청의 Idempotency-Key 헤더, 없으면 partnerId + receiptId 를 키로 사용합니다.
+ * 최근 키의 응답은 메모리(Caffeine)에 보관해 같은 파드로 다시 들어온 요청은 DB 없이 같은 응답을 돌려주고,
+ * 동시에 들어온 같은 키의 요청은 처리 한 번을 공유합니다. 다른 파드로 들어온 중복은
+ * point_idempotency_keys 의 유일 키로 걸러지며({@link PointTransactionWriter}), 처음 저장된 거래로 응답합니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final IdempotencyRepository repository;
+    private final AsyncCache<String, PointResponse> recent;
+    private final Duration retention;
+    private final Counter cacheHits;
+    private final Counter databaseHits;
+
+    public IdempotencyService(IdempotencyRepository repository,
+                              MeterRegistry meterRegistry,
+                              @Value("${point.idempotency.cache.max-keys:100000}") long maxKeys,
+                              @Value("${point.idempotency.cache.ttl:600000}") long ttl,
+                              @Value("${point.idempotency.retention:7d}") Duration retention) {
+        this.repository = repository;
+        this.retention = retention;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, recent.synchronous(), "idempotencyKeys");
+        this.cacheHits = Counter.builder("point.idempotency.duplicates")
+                .tag("source", "cache")
+                .register(meterRegistry);
+        this.databaseHits = Counter.builder("point.idempotency.duplicates")
+                .tag("source", "database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청의 중복 판별 키. 키로 쓸 값이 없으면 null (중복 검사 안 함)
+     */
+    public String keyOf(PointRequest request, String idempotencyKey) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+                throw new PointException("Idempotency-Key must not exceed " + MAX_KEY_LENGTH + " characters");
+            }
+            return "key:" + request.getPartnerId() + ":" + idempotencyKey;
+        }
+        if (request.getReceiptId() != null && !request.getReceiptId().isBlank()) {
+            return "receipt:" + request.getPartnerId() + ":" + request.getReceiptId();
+        }
+        return null;
+    }
+
+    /**
+     * 최근 처리한 키면 보관한 응답을, 처리 중인 키면 그 결과를 공유하고, 처음이면 action 을 실행합니다.
+     * 실패한 처리는 보관하지 않으므로 재시도하면 다시 실행됩니다.
+     */
+    public Mono<PointResponse> execute(String key, Supplier<Mono<PointResponse>> action) {
+        return Mono.defer(() -> {
+            boolean[] started = {false};
+            CompletableFuture<PointResponse> response = recent.get(key, (k, executor) -> {
+                started[0] = true;
+                return action.get().toFuture();
+            });
+            if (!started[0]) {
+                cacheHits.increment();
+            }
+            return Mono.fromFuture(response, true);
+        });
+    }
+
+    /**
+     * 다른 요청이 같은 키로 먼저 저장한 거래
+     */
+    public Mono<PointTransaction> findOriginal(String key) {
+        return repository.findTransaction(key)
+                .doOnNext(tx -> {
+                    databaseHits.increment();
+                    log.info("Duplicate accumulation request {} answered with transaction {}", key, tx.getId());
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${point.idempotency.purge-interval:600000}")
+    public Mono<Void> purge() {
+        return repository.purge(LocalDateTime.now().minus(retention), 10_000)
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.info("Purged {} expired idempotency keys", deleted);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Idempotency key purge failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
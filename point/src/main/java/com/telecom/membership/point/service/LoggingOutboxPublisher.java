@@ -0,0 +1,22 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/LoggingOutboxPublisher.java
+package com.telecom.membership.point.service;
+
+import com.telecom.membership.point.domain.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Event Grid 없이 실행하는 로컬/개발 환경용 발행기. 이벤트를 로그로만 남깁니다.
+ */
+@Slf4j
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+    @Override
+    public Mono<Void> publish(List<OutboxEvent> events) {
+        return Mono.fromRunnable(() -> events.forEach(event ->
+                log.info("Outbox event {} {} {}: {}", event.getId(), event.getEventType(),
+                        event.getSubject(), event.getPayload())));
+    }
+}
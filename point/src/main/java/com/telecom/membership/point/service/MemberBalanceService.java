@@ -0,0 +1,89 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/MemberBalanceService.java
+package com.telecom.membership.point.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.telecom.membership.point.config.ReplicaRoutingConnectionFactory;
+import com.telecom.membership.point.domain.MemberPointBalance;
+import com.telecom.membership.point.repository.MemberBalanceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원 잔액 조회와 재계산.
+ * <p>
+ * 자주 조회되는 회원의 잔액은 메모리(Caffeine)에 보관합니다. 이 파드에서 적립이 커밋되면 DB 가 반환한
+ * 잔액으로 캐시 항목을 교체하고(반영 거래 수가 더 큰 값 유지), 다른 파드의 적립은 ttl 이 지나 다시 읽을 때 반영됩니다.
+ */
+@Slf4j
+@Service
+public class MemberBalanceService {
+
+    private final MemberBalanceRepository repository;
+    private final TransactionalOperator transactionalOperator;
+    private final AsyncCache<String, MemberPointBalance> cache;
+    private final int rebuildChunkSize;
+
+    public MemberBalanceService(MemberBalanceRepository repository,
+                                ReactiveTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${point.balance.cache.max-members:100000}") long maxMembers,
+                                @Value("${point.balance.cache.ttl:10000}") long ttl,
+                                @Value("${point.balance.rebuild.chunk-size:500}") int rebuildChunkSize) {
+        this.repository = repository;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "memberBalance");
+    }
+
+    public Mono<MemberPointBalance> getBalance(String memberId) {
+        return Mono.fromFuture(cache.get(memberId, (key, executor) -> repository.findByMemberId(key)
+                .contextWrite(ReplicaRoutingConnectionFactory.preferReplica())
+                .defaultIfEmpty(MemberPointBalance.empty(key))
+                .toFuture()), true);
+    }
+
+    /**
+     * 커밋된 잔액으로 캐시에 있는 항목만 갱신합니다.
+     */
+    public void refresh(List<MemberPointBalance> balances) {
+        for (MemberPointBalance balance : balances) {
+            cache.asMap().computeIfPresent(balance.getMemberId(), (memberId, future) -> future.thenApply(
+                    cached -> cached.getTransactionCount() > balance.getTransactionCount() ? cached : balance));
+        }
+    }
+
+    /**
+     * point_transactions 로부터 모든 회원 잔액을 다시 계산합니다.
+     * 회원 ID 를 스트리밍하며 chunk-size 명씩 한 트랜잭션에서 재계산하므로 전체를 메모리에 올리지 않습니다.
+     * 보관(detach)된 파티션의 거래는 포함되지 않으므로 point.partition.retention-months 를 사용하는 환경에서는
+     * 잔액이 줄어들 수 있습니다.
+     *
+     * @return 재계산한 회원 수
+     */
+    public Mono<Long> rebuild() {
+        log.info("Rebuilding member point balances (chunk size {})", rebuildChunkSize);
+        return repository.streamMemberIds(rebuildChunkSize)
+                .buffer(rebuildChunkSize)
+                .concatMap(memberIds -> transactionalOperator.transactional(repository.recompute(memberIds))
+                        .doOnSuccess(updated -> cache.synchronous().invalidateAll(memberIds)), 1)
+                .reduce(0L, Long::sum)
+                .doOnSuccess(total -> log.info("Rebuilt point balances for {} members", total))
+                .doOnError(e -> log.error("Failed to rebuild member point balances", e));
+    }
+}
@@ -0,0 +1,15 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/OutboxPublisher.java
+package com.telecom.membership.point.service;
+
+import com.telecom.membership.point.domain.OutboxEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 배치 발행. 완료 신호는 배치 전체가 전달되었음을 뜻하며, 오류면 배치 전체를 다시 보냅니다.
+ */
+public interface OutboxPublisher {
+
+    Mono<Void> publish(List<OutboxEvent> events);
+}
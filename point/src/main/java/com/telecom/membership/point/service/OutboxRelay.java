@@ -0,0 +1,153 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/OutboxRelay.java
+package com.telecom.membership.point.service;
+
+import com.telecom.membership.point.domain.OutboxEvent;
+import com.telecom.membership.point.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * point_outbox 의 미발행 이벤트를 배치로 발행하는 relay.
+ * <p>
+ * 한 트랜잭션에서 batch-size 건을 SKIP LOCKED 로 잠그고, 한 번에 발행한 뒤 발행 시각을 기록하고 커밋합니다.
+ * 발행이 실패하면 롤백되어 다음 주기에 다시 발행합니다(at-least-once, 소비자는 subject 의 거래 ID 로 중복 제거).
+ * 여러 파드의 relay 는 서로 다른 행을 잠그므로 동시에 실행해도 같은 이벤트를 나눠 처리하지 않습니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository repository;
+    private final OutboxPublisher publisher;
+    private final TransactionalOperator transactionalOperator;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration retention;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final DistributionSummary batchSizeSummary;
+    private final Counter published;
+    private final Counter failed;
+    private final Timer deliveryLatency;
+
+    public OutboxRelay(OutboxRepository repository,
+                       OutboxPublisher publisher,
+                       ReactiveTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${point.outbox.batch-size:100}") int batchSize,
+                       @Value("${point.outbox.max-batches-per-poll:50}") int maxBatchesPerPoll,
+                       @Value("${point.outbox.retention:24h}") Duration retention) {
+        this.repository = repository;
+        this.publisher = publisher;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = Math.max(1, maxBatchesPerPoll);
+        this.retention = retention;
+
+        Gauge.builder("point.outbox.lag", lagMillis, AtomicLong::get)
+                .description("가장 오래된 미발행 이벤트의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("point.outbox.batch.size")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.published = Counter.builder("point.outbox.events")
+                .tag("result", "published")
+                .register(meterRegistry);
+        this.failed = Counter.builder("point.outbox.events")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("point.outbox.delivery")
+                .description("이벤트 기록부터 발행 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 미발행 이벤트가 남아 있는 동안 최대 max-batches-per-poll 배치를 연달아 발행합니다.
+     */
+    @Scheduled(fixedDelayString = "${point.outbox.poll-interval:500}")
+    public Mono<Void> relay() {
+        return Mono.defer(this::relayBatch)
+                .repeat(maxBatchesPerPoll - 1L)
+                .takeUntil(count -> count < batchSize)
+                .then()
+                .onErrorResume(e -> {
+                    log.error("Outbox relay failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.defer(this::updateLag))
+                .onErrorResume(e -> {
+                    log.warn("Failed to update outbox lag: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Integer> relayBatch() {
+        Mono<Integer> batch = repository.lockPending(batchSize)
+                .collectList()
+                .flatMap(events -> events.isEmpty()
+                        ? Mono.just(0)
+                        : publish(events).thenReturn(events.size()));
+
+        return transactionalOperator.transactional(batch);
+    }
+
+    private Mono<Void> publish(List<OutboxEvent> events) {
+        batchSizeSummary.record(events.size());
+
+        return publisher.publish(events)
+                .doOnError(e -> failed.increment(events.size()))
+                .then(Mono.defer(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    return repository.markPublished(events.stream().map(OutboxEvent::getId).toList(), now)
+                            .doOnSuccess(updated -> {
+                                published.increment(events.size());
+                                events.forEach(event -> deliveryLatency.record(
+                                        Duration.between(event.getCreatedAt(), now)));
+                            });
+                }))
+                .then();
+    }
+
+    private Mono<Void> updateLag() {
+        return repository.oldestPending()
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                .defaultIfEmpty(0L)
+                .doOnNext(lagMillis::set)
+                .then();
+    }
+
+    /**
+     * 발행 후 retention 이 지난 이벤트를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${point.outbox.purge-interval:600000}")
+    public Mono<Void> purge() {
+        return repository.purgePublished(LocalDateTime.now().minus(retention), 10_000)
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.info("Purged {} published outbox events", deleted);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Outbox purge failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
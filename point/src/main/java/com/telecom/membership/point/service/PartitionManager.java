@@ -0,0 +1,156 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/PartitionManager.java
+package com.telecom.membership.point.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * point_transactions 월별 파티션 관리.
+ * <p>
+ * 기동 시와 check-interval 마다 이번 달부터 premake-months 개월 뒤까지의 파티션을 미리 만들고,
+ * 어느 월 파티션에도 속하지 않는 거래(이번 달 이전 등)를 받는 DEFAULT 파티션을 둡니다.
+ * DEFAULT 파티션에 어떤 월의 데이터가 있으면 그 월 파티션을 만들 수 없으므로, 과거 월 데이터를 적재할 때는
+ * 월 파티션을 먼저 만들어야 합니다 (setup/seed_point_transactions.sql 참고).
+ * retention-months 가 지난 파티션은 분리해 point_archive 스키마로 옮기거나(detach) 삭제(drop)합니다.
+ * 여러 파드가 동시에 실행해도 advisory lock 으로 한 파드만 DDL 을 수행합니다.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class PartitionManager implements InitializingBean {
+
+    private static final String TABLE = "point_transactions";
+    private static final String ARCHIVE_SCHEMA = "point_archive";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{6})");
+    // pg_try_advisory_xact_lock 키 (임의의 고정값)
+    private static final long LOCK_KEY = 0x706f696e74L;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+
+    public PartitionManager(DatabaseClient databaseClient,
+                            ReactiveTransactionManager transactionManager,
+                            @Value("${point.partition.premake-months:3}") int premakeMonths,
+                            @Value("${point.partition.retention-months:0}") int retentionMonths,
+                            @Value("${point.partition.archive-mode:detach}") String archiveMode) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = "drop".equalsIgnoreCase(archiveMode);
+    }
+
+    /**
+     * 첫 요청 전에 이번 달 파티션이 있도록 기동 시 한 번 실행합니다. 실패해도 기동은 계속합니다.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            maintain().block(Duration.ofSeconds(30));
+        } catch (RuntimeException e) {
+            log.warn("Initial partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${point.partition.check-interval:3600000}",
+            initialDelayString = "${point.partition.check-interval:3600000}")
+    public Mono<Void> maintain() {
+        YearMonth current = YearMonth.now();
+
+        Mono<Void> work = databaseClient.sql("SELECT pg_try_advisory_xact_lock(:key) AS locked")
+                .bind("key", LOCK_KEY)
+                .map((row, metadata) -> Boolean.TRUE.equals(row.get("locked", Boolean.class)))
+                .one()
+                .filter(locked -> locked)
+                .flatMap(locked -> isPartitioned())
+                .filter(partitioned -> {
+                    if (!partitioned) {
+                        log.warn("{} is not partitioned; run setup/partition_point_transactions.sql", TABLE);
+                    }
+                    return partitioned;
+                })
+                .flatMap(partitioned -> createPartitions(current).then(expirePartitions(current)));
+
+        return transactionalOperator.transactional(work)
+                .doOnError(e -> log.error("Partition maintenance failed", e));
+    }
+
+    private Mono<Boolean> isPartitioned() {
+        return databaseClient.sql("SELECT relkind::text AS kind FROM pg_class WHERE relname = :table AND relkind IN ('r', 'p')")
+                .bind("table", TABLE)
+                .map((row, metadata) -> "p".equals(row.get("kind", String.class)))
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    private Mono<Void> createPartitions(YearMonth current) {
+        return Flux.range(0, premakeMonths + 1)
+                .map(current::plusMonths)
+                .concatMap(month -> databaseClient.sql(String.format(
+                                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                                partitionName(month), TABLE, month.atDay(1), month.plusMonths(1).atDay(1)))
+                        .then())
+                .then(databaseClient.sql(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s DEFAULT", DEFAULT_PARTITION, TABLE)).then());
+    }
+
+    private Mono<Void> expirePartitions(YearMonth current) {
+        if (retentionMonths <= 0) {
+            return Mono.empty();
+        }
+        YearMonth oldestKept = current.minusMonths(retentionMonths - 1L);
+
+        return databaseClient.sql("""
+                        SELECT c.relname AS name
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        JOIN pg_class p ON p.oid = i.inhparent
+                        WHERE p.relname = :table
+                        ORDER BY c.relname
+                        """)
+                .bind("table", TABLE)
+                .map((row, metadata) -> row.get("name", String.class))
+                .all()
+                .filter(name -> {
+                    Matcher matcher = PARTITION_NAME.matcher(name);
+                    return matcher.matches() && YearMonth.parse(matcher.group(1), SUFFIX).isBefore(oldestKept);
+                })
+                .concatMap(this::archive)
+                .then();
+    }
+
+    private Mono<Void> archive(String partition) {
+        Mono<Void> detach = databaseClient.sql("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition).then();
+        Mono<Void> dispose = dropExpired
+                ? databaseClient.sql("DROP TABLE " + partition).then()
+                : databaseClient.sql("CREATE SCHEMA IF NOT EXISTS " + ARCHIVE_SCHEMA).then()
+                        .then(databaseClient.sql("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA).then());
+
+        return detach.then(dispose)
+                .doOnSuccess(v -> log.info("{} expired partition {}", dropExpired ? "Dropped" : "Archived", partition));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX);
+    }
+}
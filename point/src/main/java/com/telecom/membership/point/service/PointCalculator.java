@@ -2,32 +2,117 @@ package com.telecom.membership.point.service;
 
 import com.telecom.membership.common.dto.PointRequest;
 import com.telecom.membership.common.exception.PointException;
+import com.telecom.membership.point.domain.PointRateRule;
+import com.telecom.membership.point.domain.PointTransactionCodes;
+import com.telecom.membership.point.repository.PointRateRuleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Map;
-import java.util.Optional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
+/**
+ * 적립 포인트 계산.
+ * <p>
+ * point_rate_rules 의 파트너 타입/partnerId/회원 등급/적용 기간별 적립률을 {@link PointRateTable} 로 컴파일해 두고
+ * reload-interval 마다 다시 읽어 통째로 교체합니다. 읽기에 실패하면 이전 규칙을 계속 사용합니다.
+ * 적용 기간은 요청의 구매 시각으로 판단하므로, 재처리가 늦어져도 구매 당시 규칙이 적용되도록
+ * max-purchase-age 안에 종료된 규칙도 함께 읽어 둡니다.
+ */
 @Component
 @Slf4j
-public class PointCalculator {
-    private static final Map<String, BigDecimal> PARTNER_RATES = Map.of(
-            "MART", new BigDecimal("0.01"),
-            "CONVENIENCE", new BigDecimal("0.005"),
-            "ONLINE", new BigDecimal("0.02")
+@DependsOnDatabaseInitialization
+public class PointCalculator implements InitializingBean {
+
+    // 규칙을 읽기 전에 쓰는 기본 적립률 (schema.sql 기본 규칙과 같음)
+    static final List<PointRateRule> DEFAULT_RULES = List.of(
+            PointRateRule.builder().partnerType("MART").rate(new BigDecimal("0.01")).build(),
+            PointRateRule.builder().partnerType("CONVENIENCE").rate(new BigDecimal("0.005")).build(),
+            PointRateRule.builder().partnerType("ONLINE").rate(new BigDecimal("0.02")).build()
     );
 
+    private final PointRateRuleRepository ruleRepository;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Duration maxPurchaseAge;
+    private volatile PointRateTable rates;
+
+    public PointCalculator(PointRateRuleRepository ruleRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${point.rates.max-purchase-age:7d}") Duration maxPurchaseAge) {
+        this.ruleRepository = ruleRepository;
+        this.maxPurchaseAge = maxPurchaseAge;
+        this.rates = PointRateTable.compile(DEFAULT_RULES, zone);
+
+        Gauge.builder("point.rates.rules", this, calculator -> calculator.rates.size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            reload().block(Duration.ofSeconds(30));
+        } catch (RuntimeException e) {
+            log.warn("Initial rate rule load failed, using default rates: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${point.rates.reload-interval:60000}",
+            initialDelayString = "${point.rates.reload-interval:60000}")
+    public Mono<Void> reload() {
+        return ruleRepository.findEnabled(LocalDateTime.now().minus(maxPurchaseAge))
+                .collectList()
+                .filter(rules -> {
+                    if (rules.isEmpty()) {
+                        log.warn("No enabled rate rules found, keeping {} current rules", rates.size());
+                    }
+                    return !rules.isEmpty();
+                })
+                .doOnNext(rules -> {
+                    PointRateTable previous = rates;
+                    rates = PointRateTable.compile(rules, zone);
+                    if (previous.size() != rules.size()) {
+                        log.info("Loaded {} rate rules", rules.size());
+                    }
+                })
+                .doOnError(e -> log.error("Failed to reload rate rules, keeping {} current rules", rates.size(), e))
+                .then();
+    }
+
     public BigDecimal calculate(PointRequest request) {
-        BigDecimal rate = Optional.ofNullable(PARTNER_RATES.get(request.getPartnerType()))
-                .orElseThrow(() -> {
-                    log.warn("Unknown partner type: {}", request.getPartnerType());
-                    return new PointException("Invalid partner type: " + request.getPartnerType());
-                });
-
-        return request.getAmount()
-                .multiply(rate)
-                .setScale(0, RoundingMode.FLOOR);
+        long points = rates.points(request.getPartnerType(), request.getPartnerId(), request.getMemberTier(),
+                PointTransactionCodes.toMinorUnits(request.getAmount()), pricedAt(request));
+        if (points == PointRateTable.NO_RULE) {
+            log.warn("Unknown partner type: {}", request.getPartnerType());
+            throw new PointException("Invalid partner type: " + request.getPartnerType());
+        }
+        return BigDecimal.valueOf(points);
+    }
+
+    /**
+     * 적립률 규칙을 고를 시각. 구매 시각이 없거나 미래이거나 max-purchase-age 보다 오래되었으면 처리 시각
+     */
+    private long pricedAt(PointRequest request) {
+        long now = System.currentTimeMillis();
+        LocalDateTime purchasedAt = request.getPurchasedAt();
+        if (purchasedAt == null) {
+            return now;
+        }
+        long at = purchasedAt.atZone(zone).toInstant().toEpochMilli();
+        if (at > now || now - at > maxPurchaseAge.toMillis()) {
+            log.warn("Ignoring purchase time {} for memberId={}, using processing time", purchasedAt,
+                    request.getMemberId());
+            return now;
+        }
+        return at;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/PointRateTable.java
+package com.telecom.membership.point.service;
+
+import com.telecom.membership.point.domain.PointRateRule;
+import com.telecom.membership.point.domain.PointTransactionCodes;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 적립률 규칙을 컴파일한 불변 조회 구조입니다.
+ * <p>
+ * 파트너 타입별로 partnerId 전용 규칙과 공통 규칙을 우선순위 순 배열로 나눠 두고,
+ * 두 배열에서 처음 일치하는 규칙 중 우선순위(같으면 partnerId, memberTier 지정 규칙)가 높은 쪽을 적용합니다.
+ * 포인트는 최소 단위 금액과 백만분율 적립률의 long 곱셈으로 계산하며, 조회와 계산 중에는 객체를 만들지 않습니다.
+ * 결과는 기존 {@code amount.multiply(rate).setScale(0, FLOOR)} 와 같습니다.
+ */
+final class PointRateTable {
+
+    /** 적용할 규칙이 없음 */
+    static final long NO_RULE = Long.MIN_VALUE;
+
+    static final int RATE_SCALE = 6;
+    // 최소 단위 금액(1/100) x 백만분율 적립률(1/1,000,000) 을 포인트로 바꾸는 나눗수
+    private static final long DIVISOR = BigDecimal.ONE.movePointRight(PointTransactionCodes.MINOR_SCALE + RATE_SCALE).longValueExact();
+
+    private static final Comparator<Rule> ORDER = Comparator.comparingInt(Rule::priority).reversed()
+            .thenComparing(Comparator.comparingInt(Rule::specificity).reversed())
+            .thenComparingLong(Rule::id);
+
+    private final Map<String, PartnerRates> byPartnerType;
+    private final int size;
+
+    private PointRateTable(Map<String, PartnerRates> byPartnerType, int size) {
+        this.byPartnerType = byPartnerType;
+        this.size = size;
+    }
+
+    /**
+     * 규칙 목록을 컴파일합니다. 잘못된 규칙(파트너 타입/적립률 누락, 음수, 소수점 6자리 초과)이 있으면
+     * {@link IllegalArgumentException}
+     *
+     * @param zone 적용 기간(TIMESTAMP)을 해석할 시간대
+     */
+    static PointRateTable compile(Collection<PointRateRule> rules, ZoneId zone) {
+        Map<String, List<Rule>> generic = new HashMap<>();
+        Map<String, Map<String, List<Rule>>> byPartnerId = new HashMap<>();
+
+        for (PointRateRule source : rules) {
+            Rule rule = Rule.of(source, zone);
+            String partnerType = source.getPartnerType().trim();
+            if (source.getPartnerId() == null) {
+                generic.computeIfAbsent(partnerType, k -> new ArrayList<>()).add(rule);
+            } else {
+                byPartnerId.computeIfAbsent(partnerType, k -> new HashMap<>())
+                        .computeIfAbsent(source.getPartnerId(), k -> new ArrayList<>())
+                        .add(rule);
+            }
+        }
+
+        Set<String> partnerTypes = new HashSet<>(generic.keySet());
+        partnerTypes.addAll(byPartnerId.keySet());
+
+        Map<String, PartnerRates> compiled = new HashMap<>();
+        for (String partnerType : partnerTypes) {
+            Map<String, Rule[]> overrides = new HashMap<>();
+            byPartnerId.getOrDefault(partnerType, Map.of())
+                    .forEach((partnerId, list) -> overrides.put(partnerId, sorted(list)));
+            compiled.put(partnerType, new PartnerRates(
+                    sorted(generic.getOrDefault(partnerType, List.of())), Map.copyOf(overrides)));
+        }
+        return new PointRateTable(Map.copyOf(compiled), rules.size());
+    }
+
+    /**
+     * 적립 포인트를 계산합니다.
+     *
+     * @param amountMinor 최소 단위(1/100) 금액
+     * @return 포인트, 일치하는 규칙이 없으면 {@link #NO_RULE}
+     */
+    long points(String partnerType, String partnerId, String memberTier, long amountMinor, long epochMillis) {
+        PartnerRates rates = partnerType != null ? byPartnerType.get(partnerType) : null;
+        if (rates == null) {
+            return NO_RULE;
+        }
+
+        Rule rule = first(rates.generic(), memberTier, epochMillis);
+        if (partnerId != null) {
+            Rule[] overrides = rates.byPartnerId().get(partnerId);
+            if (overrides != null) {
+                Rule override = first(overrides, memberTier, epochMillis);
+                if (override != null && (rule == null || override.outranks(rule))) {
+                    rule = override;
+                }
+            }
+        }
+        if (rule == null) {
+            return NO_RULE;
+        }
+
+        if (amountMinor >= 0 && amountMinor <= rule.maxExactAmount()) {
+            return Math.floorDiv(amountMinor * rule.ratePpm(), DIVISOR);
+        }
+        // long 곱셈이 넘치는 금액은 BigDecimal 로 계산
+        return BigDecimal.valueOf(amountMinor, PointTransactionCodes.MINOR_SCALE)
+                .multiply(BigDecimal.valueOf(rule.ratePpm(), RATE_SCALE))
+                .setScale(0, RoundingMode.FLOOR)
+                .longValueExact();
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static Rule first(Rule[] rules, String memberTier, long epochMillis) {
+        for (Rule rule : rules) {
+            if (rule.matches(memberTier, epochMillis)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static Rule[] sorted(List<Rule> rules) {
+        Rule[] array = rules.toArray(Rule[]::new);
+        Arrays.sort(array, ORDER);
+        return array;
+    }
+
+    private record PartnerRates(Rule[] generic, Map<String, Rule[]> byPartnerId) {
+    }
+
+    private record Rule(long id, String memberTier, long validFrom, long validTo,
+                        long ratePpm, long maxExactAmount, int priority, int specificity) {
+
+        private static Rule of(PointRateRule source, ZoneId zone) {
+            if (source.getPartnerType() == null || source.getRate() == null || source.getRate().signum() < 0) {
+                throw new IllegalArgumentException("Invalid rate rule: " + source.getId());
+            }
+            long ratePpm;
+            try {
+                ratePpm = source.getRate().movePointRight(RATE_SCALE).longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Rate must have at most " + RATE_SCALE
+                        + " decimal places: rule " + source.getId(), e);
+            }
+            int specificity = (source.getPartnerId() != null ? 2 : 0) + (source.getMemberTier() != null ? 1 : 0);
+
+            return new Rule(
+                    source.getId() != null ? source.getId() : 0,
+                    source.getMemberTier(),
+                    toEpochMillis(source.getValidFrom(), zone, Long.MIN_VALUE),
+                    toEpochMillis(source.getValidTo(), zone, Long.MAX_VALUE),
+                    ratePpm,
+                    ratePpm == 0 ? Long.MAX_VALUE : Long.MAX_VALUE / ratePpm,
+                    source.getPriority(),
+                    specificity);
+        }
+
+        private static long toEpochMillis(LocalDateTime time, ZoneId zone, long unbounded) {
+            return time != null ? time.atZone(zone).toInstant().toEpochMilli() : unbounded;
+        }
+
+        private boolean matches(String tier, long epochMillis) {
+            return (memberTier == null || memberTier.equalsIgnoreCase(tier))
+                    && validFrom <= epochMillis && epochMillis < validTo;
+        }
+
+        private boolean outranks(Rule other) {
+            return priority != other.priority ? priority > other.priority : specificity > other.specificity;
+        }
+    }
+}
@@ -5,10 +5,17 @@ import com.telecom.membership.common.dto.PointRequest;
 import com.telecom.membership.common.dto.PointResponse;
 import com.telecom.membership.common.enums.TransactionStatus;
 import com.telecom.membership.common.exception.PointException;
+import com.telecom.membership.point.config.ReplicaRoutingConnectionFactory;
+import com.telecom.membership.point.domain.MemberPointBalance;
 import com.telecom.membership.point.domain.PointTransaction;
+import com.telecom.membership.point.domain.PointTransactionCodes;
+import com.telecom.membership.point.domain.TransactionCursor;
+import com.telecom.membership.point.domain.TransactionPage;
 import com.telecom.membership.point.repository.ReactivePointTransactionRepository;
+import com.telecom.membership.point.repository.TransactionHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -19,20 +26,70 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
     private final ReactivePointTransactionRepository repository;
+    private final TransactionHistoryRepository historyRepository;
     private final PointCalculator pointCalculator;
+    private final TransactionQueryCoalescer queryCoalescer;
+    private final TransactionHistoryCache historyCache;
+    private final PointTransactionWriter transactionWriter;
+    private final MemberBalanceService balanceService;
+    private final IdempotencyService idempotencyService;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    // 배치 적립: 한 트랜잭션으로 저장할 청크 크기와 요청당 최대 건수
+    @Value("${point.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${point.batch.max-items:10000}")
+    private int batchMaxItems;
+
+    // 거래내역 스트리밍/페이지 조회
+    @Value("${point.history.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    @Value("${point.history.page.default-size:50}")
+    private int pageDefaultSize;
+
+    @Value("${point.history.page.max-size:500}")
+    private int pageMaxSize;
+
     public Mono<PointResponse> processPointAccumulation(PointRequest request) {
+        return processPointAccumulation(request, null);
+    }
+
+    /**
+     * 포인트 적립. 같은 키(Idempotency-Key 또는 partnerId + receiptId)로 이미 처리된 요청이면
+     * 다시 저장하지 않고 처음 응답과 같은 응답을 돌려줍니다.
+     *
+     * @param idempotencyKey Idempotency-Key 헤더 (없으면 null)
+     */
+    public Mono<PointResponse> processPointAccumulation(PointRequest request, String idempotencyKey) {
+        String key;
+        try {
+            key = idempotencyService.keyOf(request, idempotencyKey);
+        } catch (PointException e) {
+            return Mono.error(e);
+        }
+        return key == null
+                ? accumulate(request, null)
+                : idempotencyService.execute(key, () -> accumulate(request, key));
+    }
+
+    private Mono<PointResponse> accumulate(PointRequest request, String idempotencyKey) {
         return validateRequest(request)
                 .flatMap(this::calculatePoints)
+                .doOnNext(tx -> tx.setIdempotencyKey(idempotencyKey))
                 .flatMap(this::saveTransaction)
-                .map(this::createResponse)
+                .flatMap(tx -> tx.isDuplicate()
+                        ? originalResponse(request, tx.getIdempotencyKey())
+                        : Mono.just(createResponse(tx)))
                 .doOnError(e -> {
                     log.error("Error processing points: {}", e.getMessage(), e);
                     if (!(e instanceof PointException)) {
@@ -41,9 +98,100 @@ public class PointService {
                 });
     }
 
+    /**
+     * 배치 적립. 요청을 읽는 대로 검증/계산하고 청크 단위로 한 트랜잭션에 저장한 뒤
+     * 항목별 결과를 입력 순서대로 내보냅니다. 전체 요청을 메모리에 올리지 않습니다.
+     * 잘못된 항목과 저장에 실패한 청크의 항목은 FAILED 결과로 응답하고 다음 항목을 계속 처리합니다.
+     */
+    public Flux<PointResponse> processBatchAccumulation(Flux<PointRequest> requests) {
+        return requests
+                .index()
+                .map(indexed -> indexed.getT1() < batchMaxItems
+                        ? price(indexed.getT2())
+                        : BatchItem.failed(indexed.getT2(), "배치 최대 건수(" + batchMaxItems + ")를 초과했습니다."))
+                .buffer(batchChunkSize)
+                .concatMap(this::persistChunk, 1);
+    }
+
+    private BatchItem price(PointRequest request) {
+        try {
+            if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0
+                    || !PointTransactionCodes.isRepresentable(request.getAmount())) {
+                throw new PointException(PointException.INVALID_AMOUNT);
+            }
+            PointTransaction transaction = PointTransaction.builder()
+                    .memberId(request.getMemberId())
+                    .partnerId(request.getPartnerId())
+                    .partnerType(request.getPartnerType())
+                    .amount(request.getAmount())
+                    .points(pointCalculator.calculate(request))
+                    .transactionTime(LocalDateTime.now())
+                    .status(TransactionStatus.PENDING)
+                    .build();
+            transaction.setIdempotencyKey(idempotencyService.keyOf(request, null));
+            return new BatchItem(request, transaction, null);
+        } catch (PointException e) {
+            return BatchItem.failed(request, e.getMessage());
+        }
+    }
+
+    private Flux<PointResponse> persistChunk(List<BatchItem> chunk) {
+        List<PointTransaction> valid = chunk.stream()
+                .filter(item -> item.transaction() != null)
+                .map(BatchItem::transaction)
+                .toList();
+
+        return transactionWriter.saveAll(valid)
+                .filter(tx -> !tx.isDuplicate())
+                .doOnNext(historyCache::append)
+                .doOnNext(tx -> tx.setStatus("COMPLETED"))
+                .then(Flux.fromIterable(chunk)
+                        .concatMap(item -> item.transaction() != null && item.transaction().isDuplicate()
+                                ? originalResponse(item.request(), item.transaction().getIdempotencyKey())
+                                : Mono.just(createResponse(item)))
+                        .collectList())
+                .onErrorResume(e -> {
+                    log.error("Failed to save batch chunk of {} transactions", valid.size(), e);
+                    List<PointResponse> failed = new ArrayList<>(chunk.size());
+                    for (BatchItem item : chunk) {
+                        failed.add(item.transaction() == null
+                                ? createResponse(item)
+                                : createFailedResponse(item.request(), "포인트 적립에 실패했습니다."));
+                    }
+                    return Mono.just(failed);
+                })
+                .flatMapIterable(responses -> responses);
+    }
+
+    private PointResponse createResponse(BatchItem item) {
+        return item.transaction() != null
+                ? createResponse(item.transaction())
+                : createFailedResponse(item.request(), item.error());
+    }
+
+    private PointResponse createFailedResponse(PointRequest request, String message) {
+        return PointResponse.builder()
+                .memberId(request.getMemberId())
+                .partnerId(request.getPartnerId())
+                .partnerType(request.getPartnerType())
+                .amount(request.getAmount())
+                .status("FAILED")
+                .processedAt(LocalDateTime.now())
+                .message(message)
+                .build();
+    }
+
+    private record BatchItem(PointRequest request, PointTransaction transaction, String error) {
+        private static BatchItem failed(PointRequest request, String error) {
+            return new BatchItem(request, null, error);
+        }
+    }
+
     private Mono<PointRequest> validateRequest(PointRequest request) {
         return Mono.just(request)
                 .filter(r -> r.getAmount().compareTo(BigDecimal.ZERO) > 0)
+                // 저장 형식(최소 단위 정수)으로 손실 없이 표현되는 금액만 허용
+                .filter(r -> PointTransactionCodes.isRepresentable(r.getAmount()))
                 .switchIfEmpty(Mono.error(new PointException(PointException.INVALID_AMOUNT)));
     }
 
@@ -62,14 +210,39 @@ public class PointService {
     }
 
     private Mono<PointTransaction> saveTransaction(PointTransaction transaction) {
-        return repository.save(transaction)
-                .doOnSuccess(tx -> tx.setStatus("COMPLETED"))
+        return transactionWriter.save(transaction)
+                .doOnSuccess(tx -> {
+                    if (!tx.isDuplicate()) {
+                        historyCache.append(tx);
+                        tx.setStatus("COMPLETED");
+                    }
+                })
                 .doOnError(e -> {
                     transaction.setStatus("FAILED");
                     log.error("Failed to save transaction", e);
                 });
     }
 
+    /**
+     * 같은 키로 먼저 저장된 거래의 응답. 거래를 찾을 수 없으면(보관 기간 경과 등) 거래 ID 없이 처리 완료로 응답합니다.
+     */
+    private Mono<PointResponse> originalResponse(PointRequest request, String idempotencyKey) {
+        return idempotencyService.findOriginal(idempotencyKey)
+                .map(original -> {
+                    original.setStatus("COMPLETED");
+                    return createResponse(original);
+                })
+                .defaultIfEmpty(PointResponse.builder()
+                        .memberId(request.getMemberId())
+                        .partnerId(request.getPartnerId())
+                        .partnerType(request.getPartnerType())
+                        .amount(request.getAmount())
+                        .status("COMPLETED")
+                        .processedAt(LocalDateTime.now())
+                        .message("이미 처리된 요청입니다.")
+                        .build());
+    }
+
     private PointResponse createResponse(PointTransaction transaction) {
         return PointResponse.builder()
                 .transactionId(transaction.getId())
@@ -107,7 +280,14 @@ public class PointService {
 
             validateDateRange(startDateTime, endDateTime);
 
-            return repository.findByMemberIdAndTransactionTimeBetween(memberId, startDateTime, endDateTime)
+            // 기본 조회(최근 1개월)는 캐시에서, 나머지는 동시에 들어온 동일 조회끼리 DB 호출 한 번을 공유
+            Flux<PointTransaction> transactions = startDateStr == null && endDateStr == null
+                    ? historyCache.recentTransactions(memberId, startDateTime, endDateTime)
+                    : queryCoalescer.coalesce(memberId, startDateStr, endDateStr,
+                            () -> repository.findByMemberIdAndTransactionTimeBetween(memberId, startDateTime, endDateTime)
+                                    .contextWrite(ReplicaRoutingConnectionFactory.preferReplica()));
+
+            return transactions
                     .doOnComplete(() -> log.info("Retrieved transactions for memberId={} between {} and {}",
                             memberId, startDateTime, endDateTime))
                     .doOnError(error -> log.error("Error retrieving transactions for memberId={}", memberId, error));
@@ -120,6 +300,81 @@ public class PointService {
         }
     }
 
+    /**
+     * 회원의 포인트 거래내역을 최신순으로 스트리밍합니다.
+     * DB 커서에서 읽는 대로 내보내며, 전체 결과를 메모리에 모으지 않습니다.
+     */
+    public Flux<PointTransaction> streamTransactions(String memberId, String startDateStr, String endDateStr) {
+        return Mono.fromCallable(() -> parseDateRange(startDateStr, endDateStr))
+                .onErrorMap(e -> toQueryException(memberId, e))
+                .flatMapMany(range -> historyRepository.stream(memberId, range[0], range[1], streamFetchSize)
+                        .contextWrite(ReplicaRoutingConnectionFactory.preferReplica()))
+                .doOnError(error -> log.error("Error streaming transactions for memberId={}", memberId, error));
+    }
+
+    /**
+     * 회원의 포인트 거래내역을 최신순으로 한 페이지 조회합니다. (transaction_time, id) 키셋 페이지네이션
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (null 이면 기본값, 최대 max-size)
+     */
+    public Mono<TransactionPage> getTransactionPage(String memberId, String startDateStr, String endDateStr,
+                                                    String cursor, Integer size) {
+        int pageSize = Math.max(1, Math.min(size != null ? size : pageDefaultSize, pageMaxSize));
+
+        return Mono.fromCallable(() -> parseDateRange(startDateStr, endDateStr))
+                .onErrorMap(e -> toQueryException(memberId, e))
+                .flatMap(range -> {
+                    TransactionCursor after = cursor != null ? TransactionCursor.decode(cursor) : null;
+                    // 한 건 더 읽어 다음 페이지 존재 여부 확인
+                    return historyRepository.page(memberId, range[0], range[1], after, pageSize + 1)
+                            .contextWrite(ReplicaRoutingConnectionFactory.preferReplica())
+                            .collectList();
+                })
+                .map(rows -> {
+                    boolean hasNext = rows.size() > pageSize;
+                    List<PointTransaction> transactions = hasNext ? rows.subList(0, pageSize) : rows;
+                    return TransactionPage.builder()
+                            .transactions(transactions)
+                            .nextCursor(hasNext ? TransactionCursor.of(transactions.get(pageSize - 1)).encode() : null)
+                            .build();
+                })
+                .doOnError(error -> log.error("Error retrieving transaction page for memberId={}", memberId, error));
+    }
+
+    private LocalDateTime[] parseDateRange(String startDateStr, String endDateStr) {
+        LocalDateTime startDateTime = parseStartDate(startDateStr);
+        LocalDateTime endDateTime = parseEndDate(endDateStr);
+        validateDateRange(startDateTime, endDateTime);
+        return new LocalDateTime[]{startDateTime, endDateTime};
+    }
+
+    private Throwable toQueryException(String memberId, Throwable e) {
+        if (e instanceof DateTimeParseException) {
+            log.error("Invalid date format for memberId={}", memberId, e);
+            return new PointException("Invalid date format. Please use yyyy-MM-dd");
+        }
+        if (e instanceof IllegalArgumentException) {
+            log.error("Invalid date range for memberId={}", memberId, e);
+            return new PointException(e.getMessage());
+        }
+        return e;
+    }
+
+    /**
+     * 회원의 보유 포인트를 조회합니다. 거래내역이 없으면 0 을 반환합니다.
+     */
+    public Mono<MemberPointBalance> getBalance(String memberId) {
+        return balanceService.getBalance(memberId);
+    }
+
+    /**
+     * 거래내역으로부터 전체 회원 잔액을 다시 계산합니다.
+     */
+    public Mono<Long> rebuildBalances() {
+        return balanceService.rebuild();
+    }
+
     private LocalDateTime parseStartDate(String startDateStr) {
         if (startDateStr == null) {
             // 기본값: 1개월 전
@@ -0,0 +1,318 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/PointTransactionWriter.java
+package com.telecom.membership.point.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.membership.point.domain.MemberPointBalance;
+import com.telecom.membership.point.domain.OutboxEvent;
+import com.telecom.membership.point.domain.PointTransaction;
+import com.telecom.membership.point.domain.PointTransactionCodes;
+import com.telecom.membership.point.repository.IdempotencyRepository;
+import com.telecom.membership.point.repository.MemberBalanceRepository;
+import com.telecom.membership.point.repository.OutboxRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 거래 저장.
+ * <p>
+ * group-commit 모드에서는 동시에 들어온 적립 요청을 batch-window 동안 또는 max-batch-size 건까지 모아
+ * 하나의 트랜잭션에서 배치 INSERT 로 저장하고, 각 호출자의 Mono 를 생성된 id 와 함께 완료합니다.
+ * 대기 중인 요청이 max-pending 을 넘으면 개별 저장으로 처리합니다. direct 모드는 기존처럼 건별 저장합니다.
+ * 배치 적립 API 의 청크는 모드와 관계없이 {@link #saveAll(List)} 로 한 트랜잭션에 저장합니다.
+ * 어느 경로든 회원 잔액(member_point_balance) 갱신과 PointAccumulated 이벤트의 outbox 기록은
+ * 거래 INSERT 와 같은 트랜잭션에서 수행합니다. 이벤트 발행은 {@link OutboxRelay} 가 따로 처리합니다.
+ * 중복 적립 방지 키가 있는 거래는 먼저 키를 선점하고, 이미 같은 키가 있으면 저장하지 않고 duplicate 로 표시합니다.
+ */
+@Slf4j
+@Component
+public class PointTransactionWriter implements DisposableBean {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO point_transactions
+                (member_id, partner_id, partner_type, amount, points, transaction_time, status)
+            VALUES ($1, $2, $3, $4, $5, $6, $7)
+            """;
+
+    public static final String EVENT_POINT_ACCUMULATED = "PointAccumulated";
+
+    private final MemberBalanceRepository balanceRepository;
+    private final MemberBalanceService balanceService;
+    private final OutboxRepository outboxRepository;
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final boolean groupCommit;
+    private final int maxPending;
+    private final Duration shutdownTimeout;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final DistributionSummary batchSize;
+    private final Timer commitLatency;
+    private volatile FluxSink<PendingWrite> sink;
+    private Disposable pipeline;
+
+    public PointTransactionWriter(MemberBalanceRepository balanceRepository,
+                                  MemberBalanceService balanceService,
+                                  OutboxRepository outboxRepository,
+                                  IdempotencyRepository idempotencyRepository,
+                                  ObjectMapper objectMapper,
+                                  DatabaseClient databaseClient,
+                                  ReactiveTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${point.write.mode:direct}") String mode,
+                                  @Value("${point.write.batch-window:5}") long batchWindow,
+                                  @Value("${point.write.max-batch-size:100}") int maxBatchSize,
+                                  @Value("${point.write.max-concurrent-batches:4}") int maxConcurrentBatches,
+                                  @Value("${point.write.max-pending:10000}") int maxPending,
+                                  @Value("${point.write.shutdown-timeout:10000}") long shutdownTimeout) {
+        this.balanceRepository = balanceRepository;
+        this.balanceService = balanceService;
+        this.outboxRepository = outboxRepository;
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.groupCommit = "group-commit".equalsIgnoreCase(mode);
+        this.maxPending = maxPending;
+        this.shutdownTimeout = Duration.ofMillis(shutdownTimeout);
+
+        this.batchSize = DistributionSummary.builder("point.write.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder("point.write.batch.commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("point.write.pending", pending, AtomicInteger::get)
+                .register(meterRegistry);
+
+        if (groupCommit) {
+            this.pipeline = Flux.<PendingWrite>create(s -> this.sink = s)
+                    .bufferTimeout(maxBatchSize, Duration.ofMillis(batchWindow), true)
+                    .flatMap(this::writeBatch, maxConcurrentBatches)
+                    .doFinally(signal -> terminated.countDown())
+                    .subscribe();
+            log.info("Point transaction group commit enabled: window={}ms, maxBatchSize={}", batchWindow, maxBatchSize);
+        } else {
+            terminated.countDown();
+        }
+    }
+
+    public Mono<PointTransaction> save(PointTransaction transaction) {
+        if (!groupCommit || sink == null) {
+            return persist(List.of(transaction)).thenReturn(transaction);
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            return persist(List.of(transaction)).thenReturn(transaction);
+        }
+        return Mono.create(caller -> {
+            if (!enqueue(new PendingWrite(transaction, caller))) {
+                // 종료 중이라 파이프라인이 더 받지 않으면 건별 저장
+                pending.decrementAndGet();
+                persist(List.of(transaction))
+                        .subscribe(saved -> caller.success(transaction), caller::error);
+            }
+        });
+    }
+
+    /**
+     * 파이프라인에 요청을 넣습니다. 종료({@link #destroy()})가 시작된 뒤에는 넣지 않고 false 를 반환합니다.
+     */
+    private synchronized boolean enqueue(PendingWrite write) {
+        FluxSink<PendingWrite> target = sink;
+        if (target == null) {
+            return false;
+        }
+        target.next(write);
+        return true;
+    }
+
+    /**
+     * 여러 거래를 한 트랜잭션에서 배치 INSERT 로 저장하고 생성된 id 를 채워 같은 순서로 반환합니다.
+     */
+    public Flux<PointTransaction> saveAll(List<PointTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return Flux.empty();
+        }
+        batchSize.record(transactions.size());
+        long start = System.nanoTime();
+
+        return persist(transactions)
+                .doOnSuccess(saved -> commitLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                .flatMapIterable(saved -> saved);
+    }
+
+    /**
+     * 중복 키 선점, 거래 INSERT, 회원 잔액 갱신, outbox 기록을 한 트랜잭션으로 수행하고, 커밋 후 잔액 캐시를 갱신합니다.
+     * 반환 목록에는 duplicate 로 표시된 (저장하지 않은) 거래도 입력 순서대로 포함됩니다.
+     */
+    private Mono<List<PointTransaction>> persist(List<PointTransaction> transactions) {
+        Mono<List<MemberPointBalance>> write = claim(transactions)
+                .flatMap(accepted -> accepted.isEmpty()
+                        ? Mono.just(List.<MemberPointBalance>of())
+                        : insert(accepted)
+                                .collectList()
+                                .flatMap(ids -> {
+                                    for (int i = 0; i < accepted.size(); i++) {
+                                        accepted.get(i).setId(ids.get(i));
+                                    }
+                                    return idempotencyRepository.link(accepted)
+                                            .then(outboxRepository.append(
+                                                    accepted.stream().map(this::accumulatedEvent).toList()))
+                                            .then(balanceRepository.increment(accepted).collectList());
+                                }));
+
+        return transactionalOperator.transactional(write)
+                .doOnNext(balanceService::refresh)
+                .thenReturn(transactions);
+    }
+
+    /**
+     * 한 배치를 한 트랜잭션에서 저장합니다. 실패하면 배치의 모든 호출자에게 오류를 전달합니다.
+     */
+    private Mono<Void> writeBatch(List<PendingWrite> batch) {
+        pending.addAndGet(-batch.size());
+        batchSize.record(batch.size());
+        long start = System.nanoTime();
+
+        return persist(batch.stream().map(PendingWrite::transaction).toList())
+                .doOnNext(saved -> {
+                    commitLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    batch.forEach(write -> write.caller().success(write.transaction()));
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to write batch of {} point transactions", batch.size(), e);
+                    batch.forEach(write -> write.caller().error(e));
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 중복 적립 방지 키를 선점하고 저장할 거래만 반환합니다. 키를 선점하지 못한 거래는 duplicate 로 표시합니다.
+     * 동시 배치 간 교착을 피하도록 키 순서대로 선점합니다.
+     */
+    private Mono<List<PointTransaction>> claim(List<PointTransaction> transactions) {
+        transactions.forEach(tx -> tx.setDuplicate(false));
+        List<String> keys = transactions.stream()
+                .map(PointTransaction::getIdempotencyKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+        if (keys.isEmpty()) {
+            return Mono.just(transactions);
+        }
+
+        return idempotencyRepository.claim(keys, LocalDateTime.now())
+                .collect(Collectors.toCollection(HashSet::new))
+                .map(claimed -> {
+                    List<PointTransaction> accepted = new ArrayList<>(transactions.size());
+                    for (PointTransaction tx : transactions) {
+                        // 같은 배치 안의 중복은 첫 거래만 저장
+                        if (tx.getIdempotencyKey() == null || claimed.remove(tx.getIdempotencyKey())) {
+                            accepted.add(tx);
+                        } else {
+                            tx.setDuplicate(true);
+                        }
+                    }
+                    return accepted;
+                });
+    }
+
+    private OutboxEvent accumulatedEvent(PointTransaction transaction) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("transactionId", transaction.getId());
+        data.put("memberId", transaction.getMemberId());
+        data.put("partnerId", transaction.getPartnerId());
+        data.put("partnerType", transaction.getPartnerType());
+        data.put("amount", transaction.getAmount());
+        data.put("points", transaction.getPoints());
+        data.put("transactionTime", transaction.getTransactionTime().toString());
+
+        try {
+            return OutboxEvent.builder()
+                    .eventType(EVENT_POINT_ACCUMULATED)
+                    .subject("point-transactions/" + transaction.getId())
+                    .payload(objectMapper.writeValueAsString(data))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event", e);
+        }
+    }
+
+    private Flux<Long> insert(List<PointTransaction> batch) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_SQL).returnGeneratedValues("id");
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                PointTransaction tx = batch.get(i);
+                statement.bind(0, tx.getMemberId())
+                        .bind(1, tx.getPartnerId())
+                        .bind(2, PointTransactionCodes.partnerTypeCode(tx.getPartnerType()))
+                        .bind(3, PointTransactionCodes.toMinorUnits(tx.getAmount()))
+                        .bind(4, PointTransactionCodes.toMinorUnits(tx.getPoints()))
+                        .bind(5, tx.getTransactionTime())
+                        .bind(6, PointTransactionCodes.statusCode(tx.getStatus()));
+            }
+            // 바인딩 순서대로 결과가 오므로 concatMap 으로 순서 유지
+            return Flux.from(statement.execute())
+                    .concatMap(result -> result.map((row, metadata) -> row.get("id", Long.class)));
+        });
+    }
+
+    /**
+     * 남은 요청을 모두 저장한 뒤 종료합니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        FluxSink<PendingWrite> target;
+        synchronized (this) {
+            target = sink;
+            sink = null;
+        }
+        if (target != null) {
+            target.complete();
+        }
+        if (!terminated.await(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS) && pipeline != null) {
+            pipeline.dispose();
+        }
+    }
+
+    private record PendingWrite(PointTransaction transaction, MonoSink<PointTransaction> caller) {
+    }
+}
@@ -0,0 +1,180 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/TransactionHistoryCache.java
+package com.telecom.membership.point.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.telecom.membership.point.config.ReplicaRoutingConnectionFactory;
+import com.telecom.membership.point.domain.PointTransaction;
+import com.telecom.membership.point.repository.ReactivePointTransactionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 회원별 최근 1개월 거래내역 캐시 (Caffeine, W-TinyLFU, 행 수 기준 용량 제한)
+ * <p>
+ * 기본 조회(시작/종료일 미지정)만 캐시에서 응답합니다. 적립이 저장되면 이 파드의 캐시 항목에
+ * 새 행을 추가하며(id 로 중복 제거) 항목 전체를 무효화하지 않습니다.
+ * 다른 파드에서 저장된 거래는 보이지 않으므로 항목은 적재 후 ttl 이 지나면 만료되며,
+ * 추가 갱신으로 만료 시점이 늦춰지지 않습니다.
+ */
+@Slf4j
+@Component
+public class TransactionHistoryCache {
+
+    private static final Comparator<PointTransaction> ORDER = Comparator
+            .comparing(PointTransaction::getTransactionTime)
+            .thenComparing(PointTransaction::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ReactivePointTransactionRepository repository;
+    private final AsyncCache<String, MemberHistory> cache;
+
+    public TransactionHistoryCache(ReactivePointTransactionRepository repository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${point.cache.history.max-rows:500000}") long maxRows,
+                                   @Value("${point.cache.history.ttl:30000}") long ttl) {
+        this.repository = repository;
+        long ttlNanos = Duration.ofMillis(ttl).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((String memberId, MemberHistory history) -> history.rows().size() + 1)
+                .expireAfter(new Expiry<String, MemberHistory>() {
+                    @Override
+                    public long expireAfterCreate(String key, MemberHistory value, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, MemberHistory value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, MemberHistory value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "transactionHistory");
+        Gauge.builder("point.cache.history.rows", cache, c -> c.synchronous().policy().eviction()
+                        .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                        .orElse(0L))
+                .description("캐시에 적재된 거래내역 행 수 (weight)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기본 조회 구간(1개월 전 00:00 ~ 현재)의 거래내역. 캐시에 없으면 한 번만 적재합니다.
+     */
+    public Flux<PointTransaction> recentTransactions(String memberId, LocalDateTime start, LocalDateTime end) {
+        CompletableFuture<MemberHistory> future = cache.get(memberId, (key, executor) -> load(key));
+        // 한 구독자의 취소가 다른 대기자의 적재를 취소하지 않도록 suppressCancel
+        return Mono.fromFuture(future, true)
+                .flatMapIterable(history -> history.between(start, end));
+    }
+
+    /**
+     * 저장된 거래를 이 파드의 캐시 항목에 추가합니다. 적재 중인 항목에는 적재 완료 후 추가됩니다.
+     */
+    public void append(PointTransaction transaction) {
+        PointTransaction row = copy(transaction);
+        cache.asMap().computeIfPresent(transaction.getMemberId(),
+                (memberId, future) -> future.thenApply(history -> history.append(row)));
+    }
+
+    private CompletableFuture<MemberHistory> load(String memberId) {
+        LocalDateTime windowStart = LocalDateTime.now().minusMonths(1).with(LocalTime.MIN);
+        return repository.findByMemberIdAndTransactionTimeBetween(memberId, windowStart, LocalDateTime.now())
+                .contextWrite(ReplicaRoutingConnectionFactory.preferReplica())
+                .collectList()
+                .map(rows -> {
+                    List<PointTransaction> sorted = new ArrayList<>(rows);
+                    sorted.sort(ORDER);
+                    return new MemberHistory(windowStart, List.copyOf(sorted));
+                })
+                .doOnError(e -> log.error("Failed to load transaction history for memberId={}", memberId, e))
+                .toFuture();
+    }
+
+    // 응답 직전에 상태가 바뀌는 저장 객체와 분리해 DB 에 저장된 값 그대로 보관
+    private static PointTransaction copy(PointTransaction tx) {
+        PointTransaction row = PointTransaction.builder()
+                .id(tx.getId())
+                .memberId(tx.getMemberId())
+                .partnerId(tx.getPartnerId())
+                .partnerType(tx.getPartnerType())
+                .amount(tx.getAmount())
+                .points(tx.getPoints())
+                .transactionTime(tx.getTransactionTime())
+                .build();
+        row.setStatus(tx.getStatus());
+        return row;
+    }
+
+    /**
+     * 적재 시점의 windowStart 이후 거래내역 (transactionTime 순, 불변)
+     */
+    private record MemberHistory(LocalDateTime windowStart, List<PointTransaction> rows) {
+
+        private List<PointTransaction> between(LocalDateTime start, LocalDateTime end) {
+            return rows.stream()
+                    .filter(tx -> !tx.getTransactionTime().isBefore(start) && !tx.getTransactionTime().isAfter(end))
+                    .toList();
+        }
+
+        /**
+         * 정렬 위치를 이진 탐색해 끼워 넣습니다. 같은 id 는 같은 transactionTime 안에만 있을 수 있으므로
+         * 그 구간에서만 중복을 확인합니다.
+         */
+        private MemberHistory append(PointTransaction row) {
+            if (row.getTransactionTime().isBefore(windowStart)) {
+                return this;
+            }
+            int index = insertionPoint(row);
+            for (int i = index - 1; i >= 0 && rows.get(i).getTransactionTime().equals(row.getTransactionTime()); i--) {
+                if (rows.get(i).getId().equals(row.getId())) {
+                    return this;
+                }
+            }
+            List<PointTransaction> next = new ArrayList<>(rows.size() + 1);
+            next.addAll(rows.subList(0, index));
+            next.add(row);
+            next.addAll(rows.subList(index, rows.size()));
+            return new MemberHistory(windowStart, Collections.unmodifiableList(next));
+        }
+
+        // ORDER 기준으로 row 보다 뒤인 첫 위치 (적립은 시간순으로 들어오므로 대개 끝)
+        private int insertionPoint(PointTransaction row) {
+            int low = 0;
+            int high = rows.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ORDER.compare(rows.get(mid), row) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
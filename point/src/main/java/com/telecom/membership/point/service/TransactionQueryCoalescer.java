@@ -0,0 +1,83 @@
+// File: membership/point/src/main/java/com/telecom/membership/point/service/TransactionQueryCoalescer.java
+package com.telecom.membership.point.service;
+
+import com.telecom.membership.point.domain.PointTransaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 (memberId, startDate, endDate) 거래내역 조회가 동시에 들어오면 DB 호출 한 번을 공유합니다.
+ * <p>
+ * 진행 중인 조회만 보관하며 조회가 끝나거나 모든 구독자가 취소하면 즉시 제거되고 DB 조회도 취소됩니다.
+ * 진행 중인 조회 수가 max-in-flight 를 넘으면 공유하지 않고 바로 조회합니다.
+ * 날짜는 요청 원문 그대로 키로 사용하므로 기본값(최근 1개월) 조회끼리도 합쳐집니다.
+ */
+@Component
+public class TransactionQueryCoalescer {
+
+    private final Map<QueryKey, InFlightQuery> inFlight = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final Counter coalesced;
+    private final Counter bypassed;
+
+    public TransactionQueryCoalescer(@Value("${point.query.coalescing.max-in-flight:10000}") int maxInFlight,
+                                     MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        Gauge.builder("point.query.coalescing.inflight", inFlight, Map::size)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("point.query.coalescing.shared")
+                .description("진행 중인 조회에 합류한 요청 수")
+                .register(meterRegistry);
+        this.bypassed = Counter.builder("point.query.coalescing.bypassed")
+                .description("진행 중 조회 한도 초과로 단독 조회한 요청 수")
+                .register(meterRegistry);
+    }
+
+    public Flux<PointTransaction> coalesce(String memberId, String startDate, String endDate,
+                                           Supplier<Flux<PointTransaction>> query) {
+        QueryKey key = new QueryKey(memberId, startDate, endDate);
+        return Flux.defer(() -> {
+            InFlightQuery existing = inFlight.get(key);
+            if (existing == null && inFlight.size() >= maxInFlight) {
+                bypassed.increment();
+                return query.get();
+            }
+            if (existing == null) {
+                InFlightQuery created = new InFlightQuery(key, query);
+                existing = inFlight.putIfAbsent(key, created);
+                if (existing == null) {
+                    return created.result.flatMapIterable(Function.identity());
+                }
+            }
+            coalesced.increment();
+            return existing.result.flatMapIterable(Function.identity());
+        });
+    }
+
+    private record QueryKey(String memberId, String startDate, String endDate) {
+    }
+
+    private final class InFlightQuery {
+        private final Flux<List<PointTransaction>> result;
+
+        private InFlightQuery(QueryKey key, Supplier<Flux<PointTransaction>> query) {
+            // 구독자가 모두 사라지면(refCount) DB 조회를 취소, 종료/취소 시 맵에서 제거
+            this.result = Flux.defer(query)
+                    .collectList()
+                    .flux()
+                    .doFinally(signal -> inFlight.remove(key, this))
+                    .publish()
+                    .refCount(1);
+        }
+    }
+}
@@ -1,13 +1,80 @@
+-- 압축 저장 형식: status/partner_type 은 SMALLINT 코드, amount/points 는 최소 단위(1/100) BIGINT
+-- (PointTransactionCodes 참고, 기존 테이블 변환은 setup/migrate_point_transactions.sql)
+-- 고정 길이 컬럼을 앞에 두어 정렬 패딩을 줄임
+-- transaction_time 기준 월별 파티션 (파티션 생성/보관은 PartitionManager, 기존 테이블 전환은 setup/partition_point_transactions.sql)
 CREATE TABLE IF NOT EXISTS point_transactions (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
+    amount BIGINT NOT NULL,
+    points BIGINT NOT NULL,
+    transaction_time TIMESTAMP NOT NULL,
+    status SMALLINT NOT NULL,
+    partner_type SMALLINT NOT NULL,
     member_id VARCHAR(100) NOT NULL,
     partner_id VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id, transaction_time)
+) PARTITION BY RANGE (transaction_time);
+
+-- 회원 거래내역 조회(기간, 키셋 페이지)를 index-only scan 으로 처리하는 커버링 인덱스 (각 파티션에 생성됨)
+CREATE INDEX IF NOT EXISTS idx_point_tx_member_history
+    ON point_transactions (member_id, transaction_time, id)
+    INCLUDE (partner_id, partner_type, amount, points, status);
+
+DROP INDEX IF EXISTS idx_member_id_transaction_time_id;
+DROP INDEX IF EXISTS idx_member_id_transaction_time;
+
+-- 거래와 같은 트랜잭션에서 기록하는 발행 대기 이벤트 (OutboxRelay 가 발행 후 published_at 기록)
+CREATE TABLE IF NOT EXISTS point_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP,
+    event_type VARCHAR(100) NOT NULL,
+    subject VARCHAR(200) NOT NULL,
+    payload JSONB NOT NULL
+);
+
+-- 미발행 이벤트만 담는 부분 인덱스 (relay 조회/지연 측정용)
+CREATE INDEX IF NOT EXISTS idx_point_outbox_pending
+    ON point_outbox (id) INCLUDE (created_at) WHERE published_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_point_outbox_published
+    ON point_outbox (published_at) WHERE published_at IS NOT NULL;
+
+-- 중복 적립 방지 키 (Idempotency-Key 또는 partnerId + receiptId) 와 처음 저장된 거래
+CREATE TABLE IF NOT EXISTS point_idempotency_keys (
+    idempotency_key VARCHAR(300) PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL,
+    transaction_id BIGINT,
+    transaction_time TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_point_idempotency_created
+    ON point_idempotency_keys (created_at);
+
+-- 회원별 보유 포인트 (거래 저장과 같은 트랜잭션에서 증분 갱신)
+CREATE TABLE IF NOT EXISTS member_point_balance (
+    member_id VARCHAR(100) PRIMARY KEY,
+    total_points DECIMAL NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- 적립률 규칙 (PointCalculator 가 주기적으로 읽어 조회 구조로 컴파일)
+-- partner_id, member_tier, valid_from/valid_to 가 NULL 이면 모두 일치, 여러 규칙이 일치하면 priority 가 높은 규칙 적용
+CREATE TABLE IF NOT EXISTS point_rate_rules (
+    id BIGSERIAL PRIMARY KEY,
     partner_type VARCHAR(20) NOT NULL,
-    amount DECIMAL NOT NULL,
-    points DECIMAL NOT NULL,
-    transaction_time TIMESTAMP NOT NULL,
-    status VARCHAR(20) NOT NULL
+    partner_id VARCHAR(100),
+    member_tier VARCHAR(20),
+    valid_from TIMESTAMP,
+    valid_to TIMESTAMP,
+    rate NUMERIC(9, 6) NOT NULL CHECK (rate >= 0),
+    priority INT NOT NULL DEFAULT 0,
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
 );
 
-CREATE INDEX IF NOT EXISTS idx_member_id_transaction_time
-    ON point_transactions (member_id, transaction_time);
+-- 기본 적립률 (규칙이 하나도 없을 때만)
+INSERT INTO point_rate_rules (partner_type, rate)
+SELECT v.partner_type, v.rate
+FROM (VALUES ('MART', 0.01), ('CONVENIENCE', 0.005), ('ONLINE', 0.02)) AS v(partner_type, rate)
+WHERE NOT EXISTS (SELECT 1 FROM point_rate_rules);
@@ -0,0 +1,157 @@
+// File: membership/point/src/test/java/com/telecom/membership/point/service/PointRateTableTest.java
+package com.telecom.membership.point.service;
+
+import com.telecom.membership.point.domain.PointRateRule;
+import com.telecom.membership.point.domain.PointTransactionCodes;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointRateTableTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+    private static final long NOW_MILLIS = NOW.atZone(ZONE).toInstant().toEpochMilli();
+
+    // 규칙 테이블 도입 전 하드코딩 적립률
+    private static final Map<String, BigDecimal> LEGACY_RATES = Map.of(
+            "MART", new BigDecimal("0.01"),
+            "CONVENIENCE", new BigDecimal("0.005"),
+            "ONLINE", new BigDecimal("0.02")
+    );
+
+    private final PointRateTable defaults = PointRateTable.compile(PointCalculator.DEFAULT_RULES, ZONE);
+
+    @Test
+    void defaultRulesMatchLegacyCalculation() {
+        Random random = new Random(42);
+        String[] partnerTypes = LEGACY_RATES.keySet().toArray(String[]::new);
+        for (int i = 0; i < 200_000; i++) {
+            String partnerType = partnerTypes[random.nextInt(partnerTypes.length)];
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(50_000_000), random.nextInt(3));
+            assertThat(points(defaults, partnerType, null, null, amount))
+                    .as("%s %s", partnerType, amount)
+                    .isEqualTo(legacy(partnerType, amount));
+        }
+    }
+
+    @Test
+    void defaultRulesMatchLegacyCalculationAtBoundaries() {
+        List<BigDecimal> amounts = List.of(
+                BigDecimal.ZERO, new BigDecimal("0.01"), new BigDecimal("0.99"), new BigDecimal("99.99"),
+                new BigDecimal("100"), new BigDecimal("199.99"), new BigDecimal("-0.01"), new BigDecimal("-150.50"));
+        for (String partnerType : LEGACY_RATES.keySet()) {
+            for (BigDecimal amount : amounts) {
+                assertThat(points(defaults, partnerType, null, null, amount))
+                        .as("%s %s", partnerType, amount)
+                        .isEqualTo(legacy(partnerType, amount));
+            }
+        }
+    }
+
+    @Test
+    void amountsThatOverflowLongMultiplicationFallBackToBigDecimal() {
+        PointRateTable table = PointRateTable.compile(List.of(rule(1, "MART").rate(new BigDecimal("0.123456")).build()), ZONE);
+        long ratePpm = 123_456;
+        long[] amountsMinor = {Long.MAX_VALUE / ratePpm, Long.MAX_VALUE / ratePpm + 1, Long.MAX_VALUE};
+        for (long amountMinor : amountsMinor) {
+            BigDecimal expected = BigDecimal.valueOf(amountMinor, PointTransactionCodes.MINOR_SCALE)
+                    .multiply(new BigDecimal("0.123456"))
+                    .setScale(0, RoundingMode.FLOOR);
+            assertThat(table.points("MART", null, null, amountMinor, NOW_MILLIS))
+                    .as("amountMinor %d", amountMinor)
+                    .isEqualTo(expected.longValueExact());
+        }
+    }
+
+    @Test
+    void unknownPartnerTypeHasNoRule() {
+        assertThat(defaults.points("AIRLINE", null, null, 10_000, NOW_MILLIS)).isEqualTo(PointRateTable.NO_RULE);
+        assertThat(defaults.points(null, null, null, 10_000, NOW_MILLIS)).isEqualTo(PointRateTable.NO_RULE);
+    }
+
+    @Test
+    void moreSpecificRuleWinsWhenPriorityIsEqual() {
+        PointRateTable table = PointRateTable.compile(List.of(
+                rule(1, "MART").rate(new BigDecimal("0.01")).build(),
+                rule(2, "MART").memberTier("GOLD").rate(new BigDecimal("0.02")).build(),
+                rule(3, "MART").partnerId("P1").rate(new BigDecimal("0.03")).build(),
+                rule(4, "MART").partnerId("P1").memberTier("GOLD").rate(new BigDecimal("0.04")).build()
+        ), ZONE);
+
+        assertThat(table.points("MART", "P2", null, 100_00, NOW_MILLIS)).isEqualTo(1);
+        // 회원 등급은 대소문자를 구분하지 않음
+        assertThat(table.points("MART", "P2", "gold", 100_00, NOW_MILLIS)).isEqualTo(2);
+        // partnerId 전용 규칙이 등급 규칙보다 구체적
+        assertThat(table.points("MART", "P1", "SILVER", 100_00, NOW_MILLIS)).isEqualTo(3);
+        assertThat(table.points("MART", "P1", "GOLD", 100_00, NOW_MILLIS)).isEqualTo(4);
+    }
+
+    @Test
+    void higherPriorityWinsOverSpecificity() {
+        PointRateTable table = PointRateTable.compile(List.of(
+                rule(1, "MART").partnerId("P1").memberTier("GOLD").rate(new BigDecimal("0.04")).build(),
+                rule(2, "MART").priority(10).rate(new BigDecimal("0.05")).build()
+        ), ZONE);
+
+        assertThat(table.points("MART", "P1", "GOLD", 100_00, NOW_MILLIS)).isEqualTo(5);
+    }
+
+    @Test
+    void lowerIdWinsWhenPriorityAndSpecificityAreEqual() {
+        PointRateTable table = PointRateTable.compile(List.of(
+                rule(7, "MART").rate(new BigDecimal("0.07")).build(),
+                rule(3, "MART").rate(new BigDecimal("0.03")).build()
+        ), ZONE);
+
+        assertThat(table.points("MART", null, null, 100_00, NOW_MILLIS)).isEqualTo(3);
+    }
+
+    @Test
+    void validityWindowIncludesStartAndExcludesEnd() {
+        LocalDateTime from = NOW.minusDays(1);
+        LocalDateTime to = NOW.plusDays(1);
+        PointRateTable table = PointRateTable.compile(List.of(
+                rule(1, "MART").rate(new BigDecimal("0.01")).build(),
+                rule(2, "MART").priority(10).validFrom(from).validTo(to).rate(new BigDecimal("0.05")).build()
+        ), ZONE);
+
+        assertThat(table.points("MART", null, null, 100_00, millis(from.minusNanos(1_000_000)))).isEqualTo(1);
+        assertThat(table.points("MART", null, null, 100_00, millis(from))).isEqualTo(5);
+        assertThat(table.points("MART", null, null, 100_00, millis(to.minusNanos(1_000_000)))).isEqualTo(5);
+        assertThat(table.points("MART", null, null, 100_00, millis(to))).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsRatesWithMoreThanSixDecimalPlaces() {
+        List<PointRateRule> rules = List.of(rule(1, "MART").rate(new BigDecimal("0.0000001")).build());
+        assertThatThrownBy(() -> PointRateTable.compile(rules, ZONE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PointRateRule.PointRateRuleBuilder rule(long id, String partnerType) {
+        return PointRateRule.builder().id(id).partnerType(partnerType);
+    }
+
+    private static long points(PointRateTable table, String partnerType, String partnerId, String memberTier,
+                               BigDecimal amount) {
+        return table.points(partnerType, partnerId, memberTier, PointTransactionCodes.toMinorUnits(amount), NOW_MILLIS);
+    }
+
+    private static long legacy(String partnerType, BigDecimal amount) {
+        return amount.multiply(LEGACY_RATES.get(partnerType)).setScale(0, RoundingMode.FLOOR).longValueExact();
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,28 @@
+-- ===========================================
+-- 파티션 벤치마크 비교 기준용 단일(비파티션) point_transactions 생성
+--
+-- 빈 데이터베이스에서 point-service 를 처음 기동하기 전에 실행합니다.
+--   kubectl exec -i <postgres-pod> -- psql -U postgres -d membershipdb < baseline_point_transactions.sql
+-- schema.sql 은 이미 있는 테이블을 바꾸지 않으므로 이 테이블이 그대로 사용됩니다.
+-- 컬럼/인덱스는 schema.sql 과 같고 파티션만 없습니다. 측정 후 partition_point_transactions.sql 로 전환할 수 있습니다.
+-- ===========================================
+
+\set ON_ERROR_STOP on
+
+CREATE TABLE IF NOT EXISTS point_transactions (
+    id BIGSERIAL,
+    amount BIGINT NOT NULL,
+    points BIGINT NOT NULL,
+    transaction_time TIMESTAMP NOT NULL,
+    status SMALLINT NOT NULL,
+    partner_type SMALLINT NOT NULL,
+    member_id VARCHAR(100) NOT NULL,
+    partner_id VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id, transaction_time)
+);
+
+CREATE INDEX IF NOT EXISTS idx_point_tx_member_history
+    ON point_transactions (member_id, transaction_time, id)
+    INCLUDE (partner_id, partner_type, amount, points, status);
+
+SELECT relkind FROM pg_class WHERE relname = 'point_transactions';
@@ -0,0 +1,61 @@
+-- ===========================================
+-- point_transactions 압축 저장 형식 변환
+--   status, partner_type : VARCHAR -> SMALLINT 코드
+--   amount, points       : DECIMAL -> 최소 단위(1/100) BIGINT
+--
+-- 사용법 (point-service 를 0 으로 스케일 다운한 뒤 실행):
+--   kubectl exec -i <postgres-pod> -- psql -U postgres -d membershipdb < migrate_point_transactions.sql
+--
+-- 한 번의 ALTER TABLE 로 테이블을 한 번만 재작성합니다. 재작성 동안 테이블 전체가 잠기므로
+-- 작업 시간에 실행하세요. 이미 변환된 테이블에는 아무것도 하지 않습니다.
+-- ===========================================
+
+\set ON_ERROR_STOP on
+
+BEGIN;
+
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_name = 'point_transactions' AND column_name = 'status') = 'smallint' THEN
+        RAISE NOTICE 'point_transactions already migrated';
+        RETURN;
+    END IF;
+
+    -- 코드로 변환할 수 없는 값이 있으면 중단
+    IF EXISTS (SELECT 1 FROM point_transactions
+               WHERE status NOT IN ('PENDING', 'COMPLETED', 'FAILED', 'MAX_RETRY_EXCEEDED')
+                  OR partner_type NOT IN ('MART', 'CONVENIENCE', 'ONLINE')
+                  OR amount <> round(amount, 2) OR points <> round(points, 2)) THEN
+        RAISE EXCEPTION 'point_transactions has rows that cannot be converted';
+    END IF;
+
+    DROP INDEX IF EXISTS idx_member_id_transaction_time;
+    DROP INDEX IF EXISTS idx_member_id_transaction_time_id;
+
+    ALTER TABLE point_transactions
+        ALTER COLUMN status TYPE SMALLINT USING (CASE status
+            WHEN 'PENDING' THEN 0
+            WHEN 'COMPLETED' THEN 1
+            WHEN 'FAILED' THEN 2
+            WHEN 'MAX_RETRY_EXCEEDED' THEN 3
+        END),
+        ALTER COLUMN partner_type TYPE SMALLINT USING (CASE partner_type
+            WHEN 'MART' THEN 1
+            WHEN 'CONVENIENCE' THEN 2
+            WHEN 'ONLINE' THEN 3
+        END),
+        ALTER COLUMN amount TYPE BIGINT USING (amount * 100)::BIGINT,
+        ALTER COLUMN points TYPE BIGINT USING (points * 100)::BIGINT;
+
+    -- point-service 기동 시 schema.sql 이 먼저 만들었을 수 있음 (ALTER 시 함께 재생성됨)
+    CREATE INDEX IF NOT EXISTS idx_point_tx_member_history
+        ON point_transactions (member_id, transaction_time, id)
+        INCLUDE (partner_id, partner_type, amount, points, status);
+END
+$$;
+
+COMMIT;
+
+-- index-only scan 에 필요한 visibility map 갱신과 통계 수집
+VACUUM ANALYZE point_transactions;
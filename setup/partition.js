@@ -0,0 +1,71 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+import { getGatewayHost, createPointRequest } from './pointRequest.js';
+
+// 데이터량 증가에 따른 적립/거래내역 조회 지연 측정
+//   seed_point_transactions.sql 로 데이터량을 늘려 가며 단계마다 실행하고,
+//   파티션 적용 전(단일 테이블)과 후의 insert_latency / history_latency p95, p99 를 비교합니다.
+//   실행 중 적립된 데이터도 계속 쌓이므로 1분 단위(minute 태그)로 추이를 나눠 봅니다.
+const insertLatency = new Trend('insert_latency', true);
+const historyLatency = new Trend('history_latency', true);
+const startedAt = Date.now();
+
+export let options = {
+    scenarios: {
+        insert: {
+            executor: 'constant-arrival-rate',
+            rate: 200,
+            timeUnit: '1s',
+            duration: '10m',
+            preAllocatedVUs: 100,
+            exec: 'insert',
+            tags: { test_type: 'partition' },
+        },
+        history: {
+            executor: 'constant-arrival-rate',
+            rate: 50,
+            timeUnit: '1s',
+            duration: '10m',
+            preAllocatedVUs: 50,
+            exec: 'history',
+            tags: { test_type: 'partition' },
+        }
+    },
+    thresholds: {
+        insert_latency: ['p(95)<200'],
+        history_latency: ['p(95)<300'],
+    }
+};
+
+function minute() {
+    return String(Math.floor((Date.now() - startedAt) / 60000));
+}
+
+export function insert() {
+    const params = {
+        headers: {
+            'Content-Type': 'application/json',
+            'X-Partner-Type': 'MART'
+        },
+    };
+    const response = http.post(`http://${getGatewayHost()}/api/points/accumulate`,
+        JSON.stringify(createPointRequest()), params);
+
+    check(response, { 'insert status is 200': (r) => r.status === 200 });
+    insertLatency.add(response.timings.duration, { minute: minute() });
+}
+
+export function history() {
+    // seed 데이터의 회원 범위 (USER00000 ~ USER09999), 최근 3개월 조회
+    const memberId = 'USER' + String(Math.floor(Math.random() * 10000)).padStart(5, '0');
+    const end = new Date();
+    const start = new Date(end.getTime() - 89 * 24 * 60 * 60 * 1000);
+    const day = (d) => d.toISOString().substring(0, 10);
+
+    const response = http.get(`http://${getGatewayHost()}/api/points/transactions/${memberId}/page`
+        + `?startDate=${day(start)}&endDate=${day(end)}&size=50`);
+
+    check(response, { 'history status is 200': (r) => r.status === 200 });
+    historyLatency.add(response.timings.duration, { minute: minute() });
+}
@@ -0,0 +1,69 @@
+-- ===========================================
+-- point_transactions 월별 파티션 테이블 전환
+--   (migrate_point_transactions.sql 로 압축 저장 형식 변환을 먼저 적용한 테이블 대상)
+--
+-- 사용법 (point-service 를 0 으로 스케일 다운한 뒤 실행):
+--   kubectl exec -i <postgres-pod> -- psql -U postgres -d membershipdb < partition_point_transactions.sql
+--
+-- 기존 테이블을 point_transactions_legacy 로 바꾸고, 같은 구조의 파티션 테이블에 월별로 복사합니다.
+-- 복사가 끝난 legacy 테이블은 확인 후 직접 삭제하세요. 이미 파티션 테이블이면 아무것도 하지 않습니다.
+-- ===========================================
+
+\set ON_ERROR_STOP on
+
+BEGIN;
+
+DO $$
+DECLARE
+    first_month DATE;
+    last_month DATE;
+    month DATE;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE relname = 'point_transactions') = 'p' THEN
+        RAISE NOTICE 'point_transactions already partitioned';
+        RETURN;
+    END IF;
+
+    ALTER TABLE point_transactions RENAME TO point_transactions_legacy;
+    ALTER TABLE point_transactions_legacy RENAME CONSTRAINT point_transactions_pkey TO point_transactions_legacy_pkey;
+    ALTER INDEX IF EXISTS idx_point_tx_member_history RENAME TO idx_point_tx_member_history_legacy;
+
+    CREATE TABLE point_transactions (
+        id BIGINT NOT NULL DEFAULT nextval('point_transactions_id_seq'),
+        amount BIGINT NOT NULL,
+        points BIGINT NOT NULL,
+        transaction_time TIMESTAMP NOT NULL,
+        status SMALLINT NOT NULL,
+        partner_type SMALLINT NOT NULL,
+        member_id VARCHAR(100) NOT NULL,
+        partner_id VARCHAR(100) NOT NULL,
+        PRIMARY KEY (id, transaction_time)
+    ) PARTITION BY RANGE (transaction_time);
+    ALTER SEQUENCE point_transactions_id_seq OWNED BY point_transactions.id;
+
+    CREATE INDEX idx_point_tx_member_history
+        ON point_transactions (member_id, transaction_time, id)
+        INCLUDE (partner_id, partner_type, amount, points, status);
+
+    -- 기존 데이터 기간 + 앞으로 3개월 파티션 생성 (이후는 PartitionManager 가 관리)
+    SELECT date_trunc('month', COALESCE(MIN(transaction_time), now()))::date INTO first_month
+    FROM point_transactions_legacy;
+    last_month := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+
+    month := first_month;
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE point_transactions_p%s PARTITION OF point_transactions FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, 'YYYYMM'), month, (month + INTERVAL '1 month')::date);
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+
+    INSERT INTO point_transactions (id, amount, points, transaction_time, status, partner_type, member_id, partner_id)
+    SELECT id, amount, points, transaction_time, status, partner_type, member_id, partner_id
+    FROM point_transactions_legacy
+    ORDER BY transaction_time;
+END
+$$;
+
+COMMIT;
+
+ANALYZE point_transactions;
@@ -0,0 +1,53 @@
+-- ===========================================
+-- 파티션 벤치마크용 거래내역 적재
+--
+-- 지난 12개월에 고르게 분포된 거래를 rows 건 추가합니다. (회원 10,000명, 파트너 1,000곳)
+-- 데이터량을 단계적으로 늘려 가며 단계마다 partition.js 를 실행해 지연을 비교합니다.
+--   psql -U postgres -d membershipdb -v rows=1000000 < seed_point_transactions.sql
+--
+-- point_transactions 가 파티션 테이블이면 적재할 기간의 월 파티션을 먼저 만듭니다.
+-- (PartitionManager 는 이번 달 이후만 만들고, 과거 월 데이터가 DEFAULT 파티션에 쌓이면
+--  그 월 파티션을 나중에 만들 수 없으므로 적재 전에 만들어 둠)
+--
+-- 비교 기준(파티션 적용 전, 단일 테이블) 측정:
+--   1. 빈 데이터베이스에 baseline_point_transactions.sql 로 단일 테이블을 먼저 만든 뒤 point-service 를 기동
+--      (schema.sql 은 이미 있는 테이블을 바꾸지 않고, PartitionManager 는 단일 테이블이면 경고만 남김)
+--   2. 이 스크립트로 단계별 적재 후 partition.js 실행
+-- 파티션 적용 후 측정:
+--   같은 데이터에 partition_point_transactions.sql 로 전환한 뒤 point-service 를 다시 기동하고 partition.js 실행
+--   (또는 빈 데이터베이스에서 point-service 를 기동하면 schema.sql 이 파티션 테이블을 만듦)
+-- ===========================================
+
+\set ON_ERROR_STOP on
+
+DO $$
+DECLARE
+    month DATE := (date_trunc('month', now()) - INTERVAL '11 months')::date;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE relname = 'point_transactions') <> 'p' THEN
+        RETURN;
+    END IF;
+
+    WHILE month <= date_trunc('month', now())::date LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS point_transactions_p%s PARTITION OF point_transactions FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, 'YYYYMM'), month, (month + INTERVAL '1 month')::date);
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+END
+$$;
+
+INSERT INTO point_transactions (amount, points, transaction_time, status, partner_type, member_id, partner_id)
+SELECT amount * 100,
+       floor(amount * 0.01) * 100,
+       date_trunc('month', now()) - INTERVAL '11 months' + random() * (now() - (date_trunc('month', now()) - INTERVAL '11 months')),
+       1,
+       1,
+       'USER' || lpad((g % 10000)::text, 5, '0'),
+       'STORE' || lpad((g % 1000)::text, 3, '0')
+FROM (SELECT g, (floor(random() * 900000) + 100000)::bigint AS amount
+      FROM generate_series(1, :rows) AS g) s;
+
+ANALYZE point_transactions;
+
+SELECT pg_size_pretty(pg_total_relation_size('point_transactions')) AS table_size,
+       (SELECT count(*) FROM point_transactions) AS total_rows;
@@ -453,18 +453,30 @@ metadata:
   namespace: ${NAMESPACE}
 data:
   # Bulkhead 설정
+  BULKHEAD_MODE: "static"                           # static | adaptive (RTT 기반 자동 조정)
   BULKHEAD_DEFAULT_MAX_CONCURRENT_CALLS: "50"       # 기본 최대 동시 요청 수
+  BULKHEAD_DEFAULT_MIN_CONCURRENT_CALLS: "10"       # 기본 adaptive 모드 최소 동시 요청 수
   BULKHEAD_DEFAULT_MAX_WAIT_DURATION: "500"         # 기본 최대 대기 시간(ms)
 
   BULKHEAD_MART_MAX_CONCURRENT_CALLS: "100"         # MART 최대 동시 요청 수
+  BULKHEAD_MART_MIN_CONCURRENT_CALLS: "20"          # MART adaptive 모드 최소 동시 요청 수
   BULKHEAD_MART_MAX_WAIT_DURATION: "500"            # MART 최대 대기 시간(ms)
 
   BULKHEAD_CONVENIENCE_MAX_CONCURRENT_CALLS: "200"   # CONVENIENCE 최대 동시 요청 수
+  BULKHEAD_CONVENIENCE_MIN_CONCURRENT_CALLS: "40"    # CONVENIENCE adaptive 모드 최소 동시 요청 수
   BULKHEAD_CONVENIENCE_MAX_WAIT_DURATION: "300"      # CONVENIENCE 최대 대기 시간(ms)
 
   BULKHEAD_ONLINE_MAX_CONCURRENT_CALLS: "50"        # ONLINE 최대 동시 요청 수
+  BULKHEAD_ONLINE_MIN_CONCURRENT_CALLS: "10"        # ONLINE adaptive 모드 최소 동시 요청 수
   BULKHEAD_ONLINE_MAX_WAIT_DURATION: "1000"         # ONLINE 최대 대기 시간(ms)
 
+  # 공정 입장 스케줄링 (파트너별 대기열 + 가중치 배분)
+  ADMISSION_CAPACITY: "300"                         # point-service 공유 동시 처리 용량
+  ADMISSION_QUEUE_CAPACITY: "500"                   # 파트너별 대기열 최대 길이
+  ADMISSION_WEIGHT_MART: "2"                        # MART 배분 가중치
+  ADMISSION_WEIGHT_CONVENIENCE: "4"                 # CONVENIENCE 배분 가중치
+  ADMISSION_WEIGHT_ONLINE: "1"                      # ONLINE 배분 가중치
+
   # Retry 설정
   RETRY_COUNT: "3"
   RETRY_STATUSES: "BAD_GATEWAY,SERVICE_UNAVAILABLE"
@@ -473,6 +485,15 @@ data:
   RETRY_MAX_BACKOFF: "20000"
   RETRY_FACTOR: "2"
   RETRY_BASED_ON_PREVIOUS: "false"
+  RETRY_MAX_BODY_BYTES: "65536"
+  RETRY_BUDGET_RATIO: "0.2"
+  RETRY_BUDGET_MIN_PER_SECOND: "5"
+
+  # Hedging (GET /api/points/transactions)
+  HEDGE_PERCENTILE: "0.95"
+  HEDGE_MIN_DELAY: "20"
+  HEDGE_MAX_DELAY: "1000"
+  HEDGE_BUDGET_RATIO: "0.1"
 
   # Rate Limiter - MART
   RATE_MART_LIMIT: "100"
@@ -489,6 +510,14 @@ data:
   RATE_ONLINE_REFRESH: "1"
   RATE_ONLINE_TIMEOUT: "10"
 
+  # Rate Limiter - partnerId / memberId 단위
+  RATE_PARTNER_ID_LIMIT: "50"
+  RATE_PARTNER_ID_BURST: "100"
+  RATE_PARTNER_ID_MAX_KEYS: "50000"
+  RATE_MEMBER_ID_LIMIT: "5"
+  RATE_MEMBER_ID_BURST: "10"
+  RATE_MEMBER_ID_MAX_KEYS: "200000"
+
   # Circuit Breaker
   CB_SLIDING_WINDOW_SIZE: "10"
   CB_FAILURE_RATE_THRESHOLD: "50"
@@ -731,7 +760,9 @@ setup_event_grid_subscriber() {
             --source-resource-id $(az eventgrid topic show --name $GATEWAY_TOPIC -g $RESOURCE_GROUP --query "id" -o tsv) \
             --endpoint $SUB_ENDPOINT \
             --endpoint-type webhook \
-            --included-event-types CircuitBreakerOpened RetryExhausted ProcessingFailed \
+            --max-events-per-batch 50 \
+            --preferred-batch-size-in-kilobytes 256 \
+            --included-event-types CircuitBreakerOpened CircuitBreakerStateChanged CircuitBreakerFailureSummary RetryExhausted ProcessingFailed \
             --max-delivery-attempts 3 \
             --event-ttl 1440 \
             --deadletter-endpoint "${storage_id}/blobServices/default/containers/$DEAD_LETTER" \